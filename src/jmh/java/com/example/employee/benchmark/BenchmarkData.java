@@ -0,0 +1,35 @@
+package com.example.employee.benchmark;
+
+import com.example.employee.dto.CreateEmployeeRequest;
+import com.example.employee.dto.EmployeeResponse;
+
+import java.time.LocalDateTime;
+
+final class BenchmarkData {
+
+    private BenchmarkData() {
+    }
+
+    static EmployeeResponse response(long id, LocalDateTime timestamp) {
+        return EmployeeResponse.builder()
+                .id(id)
+                .firstName("First" + id)
+                .lastName("Last" + id)
+                .email("employee" + id + "@example.com")
+                .department("Engineering")
+                .position("Software Engineer")
+                .createdAt(timestamp)
+                .updatedAt(timestamp)
+                .build();
+    }
+
+    static CreateEmployeeRequest createRequest(String email) {
+        return CreateEmployeeRequest.builder()
+                .firstName("John")
+                .lastName("Doe")
+                .email(email)
+                .department("Engineering")
+                .position("Software Engineer")
+                .build();
+    }
+}
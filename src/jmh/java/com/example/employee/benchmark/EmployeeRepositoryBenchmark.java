@@ -0,0 +1,94 @@
+package com.example.employee.benchmark;
+
+import com.example.employee.EmployeeManagementApplication;
+import com.example.employee.dto.EmployeeResponse;
+import com.example.employee.model.Employee;
+import com.example.employee.repository.EmployeeRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Limit;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link EmployeeRepository} calls against the application's in-memory H2 database, each in its own
+ * transaction as when called outside the service layer.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EmployeeRepositoryBenchmark {
+
+    private static final int ROWS = 10_000;
+
+    private ConfigurableApplicationContext context;
+    private EmployeeRepository employeeRepository;
+    private long minId;
+    private long maxId;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(EmployeeManagementApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.jpa.show-sql=false",
+                        "logging.level.root=WARN",
+                        "logging.level.com.example.employee=WARN")
+                .run();
+        employeeRepository = context.getBean(EmployeeRepository.class);
+
+        List<Employee> employees = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            employees.add(Employee.builder()
+                    .firstName("First" + i)
+                    .lastName("Last" + i)
+                    .email("benchmark" + i + "@example.com")
+                    .department("Engineering")
+                    .position("Software Engineer")
+                    .build());
+        }
+        List<Employee> saved = employeeRepository.saveAll(employees);
+        minId = saved.get(0).getId();
+        maxId = saved.get(saved.size() - 1).getId();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Optional<Employee> findById() {
+        return employeeRepository.findById(ThreadLocalRandom.current().nextLong(minId, maxId + 1));
+    }
+
+    @Benchmark
+    public boolean existsByEmail() {
+        return employeeRepository.existsByEmail("benchmark" + ThreadLocalRandom.current().nextInt(ROWS) + "@example.com");
+    }
+
+    @Benchmark
+    public List<EmployeeResponse> keysetPageOf100() {
+        long after = ThreadLocalRandom.current().nextLong(minId, maxId - 100);
+        return employeeRepository.findResponsesAfter(after, Limit.of(100));
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.employee.benchmark;
+
+import com.example.employee.controller.EmployeeController;
+import com.example.employee.dto.CreateEmployeeRequest;
+import com.example.employee.exception.EmployeeAlreadyExistsException;
+import com.example.employee.exception.EmployeeNotFoundException;
+import com.example.employee.exception.GlobalExceptionHandler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Building error responses in {@link GlobalExceptionHandler}, including exception construction,
+ * since the service allocates a new exception for every failed lookup.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class GlobalExceptionHandlerBenchmark {
+
+    private GlobalExceptionHandler handler;
+    private MethodArgumentNotValidException validationException;
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        handler = new GlobalExceptionHandler(new SimpleMeterRegistry());
+
+        CreateEmployeeRequest request = new CreateEmployeeRequest("", "Doe", "not-an-email", "Engineering", "");
+        BeanPropertyBindingResult bindingResult = new BeanPropertyBindingResult(request, "createEmployeeRequest");
+        bindingResult.addError(new FieldError("createEmployeeRequest", "firstName", "First name is required"));
+        bindingResult.addError(new FieldError("createEmployeeRequest", "email", "Email should be valid"));
+        bindingResult.addError(new FieldError("createEmployeeRequest", "position", "Position is required"));
+        MethodParameter parameter = new MethodParameter(
+                EmployeeController.class.getMethod("createEmployee", CreateEmployeeRequest.class), 0);
+        validationException = new MethodArgumentNotValidException(parameter, bindingResult);
+    }
+
+    @Benchmark
+    public ResponseEntity<?> notFound() {
+        return handler.handleEmployeeNotFoundException(new EmployeeNotFoundException("Employee not found with ID: 42"));
+    }
+
+    @Benchmark
+    public ResponseEntity<?> alreadyExists() {
+        return handler.handleEmployeeAlreadyExistsException(
+                new EmployeeAlreadyExistsException("Employee with email john.doe@example.com already exists"));
+    }
+
+    @Benchmark
+    public ResponseEntity<?> validationFailed() {
+        return handler.handleValidationException(validationException);
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.employee.benchmark;
+
+import com.example.employee.codec.EmployeeProtobufCodec;
+import com.example.employee.dto.EmployeeResponse;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encode and decode cost of an {@link EmployeeResponse} list in each negotiable format. The encoded size of
+ * every format is printed during setup, e.g. {@code -PjmhArgs="PayloadFormatBenchmark -p size=100"}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PayloadFormatBenchmark {
+
+    private static final TypeReference<List<EmployeeResponse>> EMPLOYEE_LIST = new TypeReference<>() { };
+
+    @Param({"json", "cbor", "smile", "protobuf"})
+    public String format;
+
+    @Param({"1", "100", "1000"})
+    public int size;
+
+    private ObjectMapper objectMapper;
+    private List<EmployeeResponse> employees;
+    private byte[] encoded;
+
+    @Setup
+    public void setUp() throws IOException {
+        // Same builder defaults Spring Boot applies to the application's mappers
+        objectMapper = switch (format) {
+            case "cbor" -> Jackson2ObjectMapperBuilder.json().factory(new CBORFactory()).build();
+            case "smile" -> Jackson2ObjectMapperBuilder.json().factory(new SmileFactory()).build();
+            default -> Jackson2ObjectMapperBuilder.json().build();
+        };
+        employees = new ArrayList<>(size);
+        LocalDateTime now = LocalDateTime.now();
+        for (long i = 1; i <= size; i++) {
+            employees.add(BenchmarkData.response(i, now));
+        }
+        encoded = encode();
+        System.out.printf("%n%s, %d employees: %d bytes%n", format, size, encoded.length);
+    }
+
+    @Benchmark
+    public byte[] encode() throws IOException {
+        if (!"protobuf".equals(format)) {
+            return objectMapper.writeValueAsBytes(employees);
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        CodedOutputStream out = CodedOutputStream.newInstance(bytes);
+        EmployeeProtobufCodec.writeEmployees(employees, out);
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    @Benchmark
+    public List<EmployeeResponse> decode() throws IOException {
+        if (!"protobuf".equals(format)) {
+            return objectMapper.readValue(encoded, EMPLOYEE_LIST);
+        }
+        return EmployeeProtobufCodec.readEmployees(CodedInputStream.newInstance(encoded));
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.employee.logging;
+
+import com.example.employee.config.AccessLogProperties;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request overhead of {@link AccessLogFilter} over a no-op filter chain: a read that is sampled out,
+ * a read that is always sampled, and a write that always produces an audit record. Records go through
+ * the async ring buffer and are discarded by the appender (see {@code log4j2-test.xml}). Run with
+ * {@code -prof gc} to see allocations per request.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class AccessLogFilterBenchmark {
+
+    private static final FilterChain NO_OP_CHAIN = (request, response) -> { };
+
+    private AccessLogFilter filter;
+    private MockHttpServletRequest sampledOutRead;
+    private MockHttpServletRequest sampledRead;
+    private MockHttpServletRequest write;
+    private MockHttpServletResponse response;
+
+    @Setup
+    public void setUp() {
+        AccessLogProperties properties = new AccessLogProperties();
+        properties.setDefaultSampleRate(0.0);
+        properties.getSampleRates().put("GET /api/employees", 1.0);
+        filter = new AccessLogFilter(properties);
+
+        sampledOutRead = request("GET", "/api/employees/{id}", "/api/employees/42");
+        sampledRead = request("GET", "/api/employees", "/api/employees");
+        write = request("PUT", "/api/employees/{id}", "/api/employees/42");
+        response = new MockHttpServletResponse();
+    }
+
+    @Benchmark
+    public void baseline() throws ServletException, IOException {
+        NO_OP_CHAIN.doFilter(sampledOutRead, response);
+    }
+
+    @Benchmark
+    public void sampledOutRead() throws ServletException, IOException {
+        filter.doFilterInternal(sampledOutRead, response, NO_OP_CHAIN);
+    }
+
+    @Benchmark
+    public void sampledRead() throws ServletException, IOException {
+        filter.doFilterInternal(sampledRead, response, NO_OP_CHAIN);
+    }
+
+    @Benchmark
+    public void auditedWrite() throws ServletException, IOException {
+        filter.doFilterInternal(write, response, NO_OP_CHAIN);
+    }
+
+    private static MockHttpServletRequest request(String method, String route, String uri) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, uri);
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, route);
+        return request;
+    }
+}
@@ -0,0 +1,127 @@
+package com.example.employee.service;
+
+import com.example.employee.EmployeeManagementApplication;
+import com.example.employee.dto.EmployeeResponse;
+import com.example.employee.model.Employee;
+import com.example.employee.repository.EmployeeRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Limit;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Read paths of {@link EmployeeService} before and after projecting into {@link EmployeeResponse}: the
+ * {@code entity*} benchmarks load managed entities and map them as the service used to, the
+ * {@code projection*} ones call the repository projections it uses now. Both run in a read-only transaction.
+ * Run with {@code -prof gc} and compare {@code gc.alloc.rate.norm} for bytes allocated per request.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EmployeeReadPathBenchmark {
+
+    private static final int ROWS = 10_000;
+    private static final int PAGE_SIZE = 100;
+
+    private ConfigurableApplicationContext context;
+    private EmployeeRepository employeeRepository;
+    private EntityManager entityManager;
+    private TransactionTemplate readOnlyTransaction;
+    private long minId;
+    private long maxId;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(EmployeeManagementApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.jpa.show-sql=false",
+                        "logging.level.root=WARN",
+                        "logging.level.com.example.employee=WARN")
+                .run();
+        employeeRepository = context.getBean(EmployeeRepository.class);
+        entityManager = SharedEntityManagerCreator.createSharedEntityManager(
+                context.getBean(EntityManagerFactory.class));
+        readOnlyTransaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnlyTransaction.setReadOnly(true);
+
+        List<Employee> employees = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            employees.add(Employee.builder()
+                    .firstName("First" + i)
+                    .lastName("Last" + i)
+                    .email("readpath" + i + "@example.com")
+                    .department("Engineering")
+                    .position("Software Engineer")
+                    .build());
+        }
+        List<Employee> saved = employeeRepository.saveAll(employees);
+        minId = saved.get(0).getId();
+        maxId = saved.get(saved.size() - 1).getId();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public EmployeeResponse entityById() {
+        long id = randomId();
+        return readOnlyTransaction.execute(status ->
+                EmployeeService.mapToResponse(entityManager.find(Employee.class, id)));
+    }
+
+    @Benchmark
+    public EmployeeResponse projectionById() {
+        long id = randomId();
+        return readOnlyTransaction.execute(status -> employeeRepository.findResponseById(id).orElseThrow());
+    }
+
+    @Benchmark
+    public List<EmployeeResponse> entityPageOf100() {
+        long after = randomId() - PAGE_SIZE;
+        return readOnlyTransaction.execute(status -> entityManager
+                .createQuery("select e from Employee e where e.id > :after order by e.id", Employee.class)
+                .setParameter("after", after)
+                .setMaxResults(PAGE_SIZE)
+                .getResultStream()
+                .map(EmployeeService::mapToResponse)
+                .toList());
+    }
+
+    @Benchmark
+    public List<EmployeeResponse> projectionPageOf100() {
+        long after = randomId() - PAGE_SIZE;
+        return readOnlyTransaction.execute(status ->
+                employeeRepository.findResponsesAfter(after, Limit.of(PAGE_SIZE)));
+    }
+
+    private long randomId() {
+        return ThreadLocalRandom.current().nextLong(minId + PAGE_SIZE, maxId + 1);
+    }
+}
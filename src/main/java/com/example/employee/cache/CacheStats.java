@@ -0,0 +1,20 @@
+package com.example.employee.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class CacheStats {
+
+    private long hits;
+    private long misses;
+    private long evictions;
+    private long expirations;
+    private long size;
+
+    public double getHitRatio() {
+        long requests = hits + misses;
+        return requests == 0 ? 0.0 : (double) hits / requests;
+    }
+}
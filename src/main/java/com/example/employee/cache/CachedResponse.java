@@ -0,0 +1,14 @@
+package com.example.employee.cache;
+
+import lombok.Value;
+
+/**
+ * Serialized employee JSON together with the entity tag of the version it was rendered from.
+ * The body is shared and must not be modified.
+ */
+@Value
+public class CachedResponse {
+
+    byte[] body;
+    String etag;
+}
@@ -0,0 +1,75 @@
+package com.example.employee.cache;
+
+import com.example.employee.event.EmployeeChangedEvent;
+import com.example.employee.repository.EmployeeRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * In-process set of every employee email, built at startup and kept current from committed changes.
+ * <p>
+ * A miss is authoritative and costs no I/O. A hit is confirmed against the database, because the set
+ * can briefly hold emails whose delete has not been applied yet. The unique constraint on
+ * {@code employees.email} remains the source of truth for concurrent writers.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class EmployeeEmailIndex {
+
+    private final EmployeeRepository employeeRepository;
+    private final Set<String> emails = ConcurrentHashMap.newKeySet();
+    private volatile boolean ready;
+
+    /**
+     * Read-write on purpose, so the emails come from the primary: a lagging read replica would leave out
+     * recent emails, and misses are trusted without a query.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void rebuild() {
+        try (Stream<String> all = employeeRepository.streamAllEmails()) {
+            all.forEach(emails::add);
+        }
+        ready = true;
+        log.info("Email index built with {} entries", emails.size());
+    }
+
+    /**
+     * Returns {@code false} when the email is definitely not taken; {@code true} may be a stale hit.
+     */
+    public boolean mightContain(String email) {
+        return !ready || emails.contains(email);
+    }
+
+    public boolean exists(String email) {
+        if (!mightContain(email)) {
+            return false;
+        }
+        if (employeeRepository.existsByEmail(email)) {
+            return true;
+        }
+        emails.remove(email);
+        return false;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        if (event.getBefore() != null && (event.getAfter() == null
+                || !event.getBefore().getEmail().equals(event.getAfter().getEmail()))) {
+            emails.remove(event.getBefore().getEmail());
+        }
+        if (event.getAfter() != null) {
+            emails.add(event.getAfter().getEmail());
+        }
+    }
+}
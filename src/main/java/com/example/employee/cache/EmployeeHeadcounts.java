@@ -0,0 +1,126 @@
+package com.example.employee.cache;
+
+import com.example.employee.dto.EmployeeResponse;
+import com.example.employee.dto.EmployeeStats;
+import com.example.employee.event.EmployeeChangedEvent;
+import com.example.employee.repository.EmployeeRepository;
+import com.example.employee.repository.Headcount;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-process headcounts per department and per position, built at startup with {@code GROUP BY} queries
+ * and then adjusted from every committed change, so reads never touch the table.
+ * <p>
+ * The counts are periodically reconciled against the database ({@code employee.stats.reconcile-interval})
+ * to repair any drift. A reconciliation whose queries overlap with applied changes is discarded, since
+ * it cannot tell which of them the queries saw, and the next run tries again.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class EmployeeHeadcounts {
+
+    private final EmployeeRepository employeeRepository;
+    private final Map<String, Long> departments = new ConcurrentHashMap<>();
+    private final Map<String, Long> positions = new ConcurrentHashMap<>();
+    // Changes apply concurrently under the read lock; reconciliation swaps the counts under the write lock
+    private final ReentrantReadWriteLock swapLock = new ReentrantReadWriteLock();
+    private final AtomicLong appliedChanges = new AtomicLong();
+    private volatile LocalDateTime reconciledAt;
+
+    /**
+     * Read-write on purpose, so the counts come from the primary: counts from a lagging read replica would
+     * overwrite correct ones.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${employee.stats.reconcile-interval:PT5M}",
+            initialDelayString = "${employee.stats.reconcile-interval:PT5M}")
+    @Transactional
+    public void reconcile() {
+        long changesBefore = appliedChanges.get();
+        Map<String, Long> actualDepartments = toMap(employeeRepository.countByDepartment());
+        Map<String, Long> actualPositions = toMap(employeeRepository.countByPosition());
+
+        swapLock.writeLock().lock();
+        try {
+            if (reconciledAt != null && appliedChanges.get() != changesBefore) {
+                log.debug("Skipping headcount reconciliation, employees changed while counting");
+                return;
+            }
+            if (!actualDepartments.equals(departments) || !actualPositions.equals(positions)) {
+                if (reconciledAt != null) {
+                    log.warn("Headcounts drifted from the database, replacing them");
+                }
+                replace(departments, actualDepartments);
+                replace(positions, actualPositions);
+            }
+            reconciledAt = LocalDateTime.now();
+        } finally {
+            swapLock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        EmployeeResponse before = event.getBefore();
+        EmployeeResponse after = event.getAfter();
+
+        swapLock.readLock().lock();
+        try {
+            move(departments, before == null ? null : before.getDepartment(), after == null ? null : after.getDepartment());
+            move(positions, before == null ? null : before.getPosition(), after == null ? null : after.getPosition());
+            appliedChanges.incrementAndGet();
+        } finally {
+            swapLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Copies the current counts; the cost depends on the number of departments and positions, not employees.
+     */
+    public EmployeeStats stats() {
+        Map<String, Long> departmentCounts = new TreeMap<>(departments);
+        long total = departmentCounts.values().stream().mapToLong(Long::longValue).sum();
+        return new EmployeeStats(total, departmentCounts, new TreeMap<>(positions), reconciledAt);
+    }
+
+    private static void move(Map<String, Long> counts, String from, String to) {
+        if (Objects.equals(from, to)) {
+            return;
+        }
+        if (from != null) {
+            counts.compute(from, (key, count) -> count == null || count <= 1 ? null : count - 1);
+        }
+        if (to != null) {
+            counts.merge(to, 1L, Long::sum);
+        }
+    }
+
+    private static Map<String, Long> toMap(List<Headcount> headcounts) {
+        Map<String, Long> counts = new HashMap<>();
+        headcounts.forEach(headcount -> counts.put(headcount.getName(), headcount.getHeadcount()));
+        return counts;
+    }
+
+    private static void replace(Map<String, Long> counts, Map<String, Long> actual) {
+        counts.keySet().retainAll(actual.keySet());
+        counts.putAll(actual);
+    }
+}
@@ -0,0 +1,192 @@
+package com.example.employee.cache;
+
+import com.example.employee.config.ResponseCacheProperties;
+import com.example.employee.event.EmployeeChangedEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * Bounded LRU cache of already-serialized employee JSON and its ETag, keyed by employee ID.
+ * <p>
+ * Entries expire after the configured TTL and are invalidated once a change to the employee commits.
+ * A load that overlaps an invalidation of the same ID is handed to its caller but not cached, so a
+ * reader that fetched the old row just before a commit cannot re-populate the cache with stale bytes.
+ * The cache is split into independently locked LRU segments to keep lock hold times short.
+ */
+@Component
+public class EmployeeResponseCache {
+
+    private static final int SEGMENTS = 16;
+    private static final int STAMP_STRIPES = 64;
+
+    private final boolean enabled;
+    private final long ttlNanos;
+    private final Segment[] segments = new Segment[SEGMENTS];
+    private final AtomicLong clock = new AtomicLong();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder expirations = new LongAdder();
+
+    public EmployeeResponseCache(ResponseCacheProperties properties) {
+        this.enabled = properties.isEnabled();
+        this.ttlNanos = properties.getTtl().toNanos();
+        int segmentCapacity = Math.max(1, (properties.getMaxEntries() + SEGMENTS - 1) / SEGMENTS);
+        for (int i = 0; i < SEGMENTS; i++) {
+            segments[i] = new Segment(segmentCapacity);
+        }
+    }
+
+    /**
+     * Returns the cached response for {@code id}, or loads, caches and returns it.
+     */
+    public CachedResponse getOrLoad(Long id, Function<Long, CachedResponse> loader) {
+        if (!enabled) {
+            return loader.apply(id);
+        }
+
+        int hash = spread(id);
+        Segment segment = segments[hash & (SEGMENTS - 1)];
+        CachedResponse cached = segment.get(id, System.nanoTime());
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+
+        misses.increment();
+        long stamp = clock.get();
+        CachedResponse loaded = loader.apply(id);
+        segment.put(id, hash, loaded, stamp, System.nanoTime() + ttlNanos);
+        return loaded;
+    }
+
+    /**
+     * Returns the cached response for {@code id} without loading it, or {@code null}. Only hits are counted;
+     * a caller that goes on to {@link #getOrLoad} records the miss there.
+     */
+    public CachedResponse getIfPresent(Long id) {
+        if (!enabled) {
+            return null;
+        }
+
+        int hash = spread(id);
+        CachedResponse cached = segments[hash & (SEGMENTS - 1)].get(id, System.nanoTime());
+        if (cached != null) {
+            hits.increment();
+        }
+        return cached;
+    }
+
+    public void invalidate(Long id) {
+        int hash = spread(id);
+        segments[hash & (SEGMENTS - 1)].invalidate(id, hash, clock.incrementAndGet());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        invalidate(event.getId());
+    }
+
+    public CacheStats stats() {
+        long size = 0;
+        for (Segment segment : segments) {
+            size += segment.size();
+        }
+        return new CacheStats(hits.sum(), misses.sum(), evictions.sum(), expirations.sum(), size);
+    }
+
+    private static int spread(Long id) {
+        int h = Long.hashCode(id);
+        return h ^ (h >>> 16);
+    }
+
+    private static final class Entry {
+        private final CachedResponse response;
+        private final long expiresAt;
+
+        private Entry(CachedResponse response, long expiresAt) {
+            this.response = response;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    private final class Segment {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private final LinkedHashMap<Long, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+        // Clock value of the latest invalidation per stripe of IDs; puts loaded before it are dropped
+        private final long[] invalidatedAt = new long[STAMP_STRIPES];
+        private final int capacity;
+
+        private Segment(int capacity) {
+            this.capacity = capacity;
+        }
+
+        private CachedResponse get(Long id, long now) {
+            lock.lock();
+            try {
+                Entry entry = entries.get(id);
+                if (entry == null) {
+                    return null;
+                }
+                if (entry.expiresAt - now <= 0) {
+                    entries.remove(id);
+                    expirations.increment();
+                    return null;
+                }
+                return entry.response;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void put(Long id, int hash, CachedResponse response, long stamp, long expiresAt) {
+            lock.lock();
+            try {
+                if (invalidatedAt[stripe(hash)] > stamp) {
+                    return;
+                }
+                entries.put(id, new Entry(response, expiresAt));
+                if (entries.size() > capacity) {
+                    Iterator<Long> eldest = entries.keySet().iterator();
+                    eldest.next();
+                    eldest.remove();
+                    evictions.increment();
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void invalidate(Long id, int hash, long stamp) {
+            lock.lock();
+            try {
+                invalidatedAt[stripe(hash)] = stamp;
+                entries.remove(id);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private int size() {
+            lock.lock();
+            try {
+                return entries.size();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private int stripe(int hash) {
+            return (hash >>> 4) & (STAMP_STRIPES - 1);
+        }
+    }
+}
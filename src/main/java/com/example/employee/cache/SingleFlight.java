@@ -0,0 +1,101 @@
+package com.example.employee.cache;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Collapses concurrent identical loads into one: the first caller for a key runs the loader, and callers that
+ * arrive while it runs wait for its result instead of repeating the work. Nothing is kept once the load ends.
+ * <p>
+ * A lone caller pays one map insert and one removal. Waiting is bounded: a caller still waiting after
+ * {@code maxWait} runs the loader itself. A failed load fails every caller that shared it with the same
+ * exception. {@link #forget} keeps new callers from joining a load that may have read data older than a change.
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final boolean enabled;
+    private final long maxWaitNanos;
+
+    private final LongAdder leaders = new LongAdder();
+    private final LongAdder shared = new LongAdder();
+    private final LongAdder timeouts = new LongAdder();
+
+    public SingleFlight(boolean enabled, Duration maxWait) {
+        this.enabled = enabled;
+        this.maxWaitNanos = maxWait.toNanos();
+    }
+
+    public V load(K key, Supplier<V> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+
+        CompletableFuture<V> flight = new CompletableFuture<>();
+        CompletableFuture<V> running = inFlight.putIfAbsent(key, flight);
+        if (running == null) {
+            leaders.increment();
+            return lead(key, flight, loader);
+        }
+        return join(running, loader);
+    }
+
+    /**
+     * Later callers for {@code key} start a new load instead of joining the one in flight.
+     */
+    public void forget(K key) {
+        inFlight.remove(key);
+    }
+
+    public void forgetAll() {
+        inFlight.clear();
+    }
+
+    public SingleFlightStats stats() {
+        return new SingleFlightStats(leaders.sum(), shared.sum(), timeouts.sum(), inFlight.size());
+    }
+
+    private V lead(K key, CompletableFuture<V> flight, Supplier<V> loader) {
+        try {
+            V value = loader.get();
+            flight.complete(value);
+            return value;
+        } catch (RuntimeException | Error ex) {
+            flight.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            // Only this flight: a forget may already have made room for a newer one
+            inFlight.remove(key, flight);
+        }
+    }
+
+    private V join(CompletableFuture<V> running, Supplier<V> loader) {
+        try {
+            V value = running.get(maxWaitNanos, TimeUnit.NANOSECONDS);
+            shared.increment();
+            return value;
+        } catch (ExecutionException ex) {
+            shared.increment();
+            throw propagate(ex.getCause());
+        } catch (TimeoutException ex) {
+            timeouts.increment();
+            return loader.get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a shared load", ex);
+        }
+    }
+
+    private static RuntimeException propagate(Throwable cause) {
+        if (cause instanceof Error error) {
+            throw error;
+        }
+        return cause instanceof RuntimeException runtime ? runtime : new IllegalStateException(cause);
+    }
+}
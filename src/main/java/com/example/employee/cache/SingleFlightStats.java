@@ -0,0 +1,31 @@
+package com.example.employee.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class SingleFlightStats {
+
+    /**
+     * Calls that ran the loader themselves because no identical load was running.
+     */
+    private long leaders;
+
+    /**
+     * Calls that received the result of a load another caller was already running.
+     */
+    private long shared;
+
+    /**
+     * Calls that joined a running load, gave up after the maximum wait and loaded on their own.
+     */
+    private long timeouts;
+
+    private long inFlight;
+
+    public double getCoalescingRatio() {
+        long calls = leaders + shared + timeouts;
+        return calls == 0 ? 0.0 : (double) shared / calls;
+    }
+}
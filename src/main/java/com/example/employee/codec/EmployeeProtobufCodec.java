@@ -0,0 +1,154 @@
+package com.example.employee.codec;
+
+import com.example.employee.dto.CreateEmployeeRequest;
+import com.example.employee.dto.EmployeeResponse;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.WireFormat;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Protobuf encoding of the employee DTOs following {@code proto/employee.proto}, written and read directly
+ * with the protobuf runtime so the DTOs need no generated twins. Zero and empty values are omitted on the
+ * wire like any proto3 encoder does, and unknown fields are skipped when reading.
+ */
+public final class EmployeeProtobufCodec {
+
+    private static final int LIST_ITEM = 1;
+
+    private EmployeeProtobufCodec() {
+    }
+
+    public static void writeEmployee(EmployeeResponse employee, CodedOutputStream out) throws IOException {
+        writeInt64(out, 1, employee.getId());
+        writeString(out, 2, employee.getFirstName());
+        writeString(out, 3, employee.getLastName());
+        writeString(out, 4, employee.getEmail());
+        writeString(out, 5, employee.getDepartment());
+        writeString(out, 6, employee.getPosition());
+        writeString(out, 7, format(employee.getCreatedAt()));
+        writeString(out, 8, format(employee.getUpdatedAt()));
+        writeInt64(out, 9, employee.getVersion());
+    }
+
+    public static void writeEmployees(List<EmployeeResponse> employees, CodedOutputStream out) throws IOException {
+        for (EmployeeResponse employee : employees) {
+            out.writeTag(LIST_ITEM, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+            out.writeUInt32NoTag(employeeSize(employee));
+            writeEmployee(employee, out);
+        }
+    }
+
+    public static EmployeeResponse readEmployee(CodedInputStream in) throws IOException {
+        EmployeeResponse employee = new EmployeeResponse();
+        // proto3 leaves zero values off the wire
+        employee.setId(0L);
+        employee.setVersion(0L);
+        for (int tag = in.readTag(); tag != 0; tag = in.readTag()) {
+            switch (WireFormat.getTagFieldNumber(tag)) {
+                case 1 -> employee.setId(in.readInt64());
+                case 2 -> employee.setFirstName(in.readStringRequireUtf8());
+                case 3 -> employee.setLastName(in.readStringRequireUtf8());
+                case 4 -> employee.setEmail(in.readStringRequireUtf8());
+                case 5 -> employee.setDepartment(in.readStringRequireUtf8());
+                case 6 -> employee.setPosition(in.readStringRequireUtf8());
+                case 7 -> employee.setCreatedAt(LocalDateTime.parse(in.readStringRequireUtf8()));
+                case 8 -> employee.setUpdatedAt(LocalDateTime.parse(in.readStringRequireUtf8()));
+                case 9 -> employee.setVersion(in.readInt64());
+                default -> in.skipField(tag);
+            }
+        }
+        return employee;
+    }
+
+    public static List<EmployeeResponse> readEmployees(CodedInputStream in) throws IOException {
+        List<EmployeeResponse> employees = new ArrayList<>();
+        for (int tag = in.readTag(); tag != 0; tag = in.readTag()) {
+            if (tag == WireFormat.makeTag(LIST_ITEM, WireFormat.WIRETYPE_LENGTH_DELIMITED)) {
+                int limit = in.pushLimit(in.readRawVarint32());
+                employees.add(readEmployee(in));
+                in.popLimit(limit);
+            } else {
+                in.skipField(tag);
+            }
+        }
+        return employees;
+    }
+
+    public static void writeCreateRequest(CreateEmployeeRequest request, CodedOutputStream out) throws IOException {
+        writeString(out, 1, request.getFirstName());
+        writeString(out, 2, request.getLastName());
+        writeString(out, 3, request.getEmail());
+        writeString(out, 4, request.getDepartment());
+        writeString(out, 5, request.getPosition());
+    }
+
+    public static CreateEmployeeRequest readCreateRequest(CodedInputStream in) throws IOException {
+        CreateEmployeeRequest request = new CreateEmployeeRequest();
+        for (int tag = in.readTag(); tag != 0; tag = in.readTag()) {
+            switch (WireFormat.getTagFieldNumber(tag)) {
+                case 1 -> request.setFirstName(in.readStringRequireUtf8());
+                case 2 -> request.setLastName(in.readStringRequireUtf8());
+                case 3 -> request.setEmail(in.readStringRequireUtf8());
+                case 4 -> request.setDepartment(in.readStringRequireUtf8());
+                case 5 -> request.setPosition(in.readStringRequireUtf8());
+                default -> in.skipField(tag);
+            }
+        }
+        return request;
+    }
+
+    public static List<CreateEmployeeRequest> readCreateRequests(CodedInputStream in) throws IOException {
+        List<CreateEmployeeRequest> requests = new ArrayList<>();
+        for (int tag = in.readTag(); tag != 0; tag = in.readTag()) {
+            if (tag == WireFormat.makeTag(LIST_ITEM, WireFormat.WIRETYPE_LENGTH_DELIMITED)) {
+                int limit = in.pushLimit(in.readRawVarint32());
+                requests.add(readCreateRequest(in));
+                in.popLimit(limit);
+            } else {
+                in.skipField(tag);
+            }
+        }
+        return requests;
+    }
+
+    private static int employeeSize(EmployeeResponse employee) {
+        return int64Size(1, employee.getId())
+                + stringSize(2, employee.getFirstName())
+                + stringSize(3, employee.getLastName())
+                + stringSize(4, employee.getEmail())
+                + stringSize(5, employee.getDepartment())
+                + stringSize(6, employee.getPosition())
+                + stringSize(7, format(employee.getCreatedAt()))
+                + stringSize(8, format(employee.getUpdatedAt()))
+                + int64Size(9, employee.getVersion());
+    }
+
+    private static void writeInt64(CodedOutputStream out, int field, Long value) throws IOException {
+        if (value != null && value != 0) {
+            out.writeInt64(field, value);
+        }
+    }
+
+    private static void writeString(CodedOutputStream out, int field, String value) throws IOException {
+        if (value != null && !value.isEmpty()) {
+            out.writeString(field, value);
+        }
+    }
+
+    private static int int64Size(int field, Long value) {
+        return value != null && value != 0 ? CodedOutputStream.computeInt64Size(field, value) : 0;
+    }
+
+    private static int stringSize(int field, String value) {
+        return value != null && !value.isEmpty() ? CodedOutputStream.computeStringSize(field, value) : 0;
+    }
+
+    private static String format(LocalDateTime timestamp) {
+        return timestamp != null ? timestamp.toString() : null;
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.employee.codec;
+
+import com.example.employee.dto.CreateEmployeeRequest;
+import com.example.employee.dto.EmployeeResponse;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.List;
+
+/**
+ * Reads and writes {@code application/x-protobuf} for the payloads described in {@code proto/employee.proto}:
+ * {@link EmployeeResponse} and lists of it, {@link CreateEmployeeRequest} and lists of it. Other types are left
+ * to the remaining converters, so for them protobuf is simply not acceptable.
+ */
+public class EmployeeProtobufHttpMessageConverter extends AbstractGenericHttpMessageConverter<Object> {
+
+    public static final MediaType PROTOBUF = new MediaType("application", "x-protobuf");
+
+    private static final int BUFFER_SIZE = 8192;
+
+    public EmployeeProtobufHttpMessageConverter() {
+        super(PROTOBUF);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return clazz == EmployeeResponse.class || clazz == CreateEmployeeRequest.class || List.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    public boolean canRead(Type type, Class<?> contextClass, MediaType mediaType) {
+        return isReadable(ResolvableType.forType(type)) && canRead(mediaType);
+    }
+
+    @Override
+    public boolean canWrite(Type type, Class<?> clazz, MediaType mediaType) {
+        ResolvableType declared = type != null ? ResolvableType.forType(type) : ResolvableType.NONE;
+        // A handler declared as ResponseEntity<?> leaves only the runtime class of the body to go by
+        ResolvableType resolved = declared.resolve(Object.class) != Object.class || clazz == null
+                ? declared
+                : ResolvableType.forClass(clazz);
+        return isWritable(resolved) && canWrite(mediaType);
+    }
+
+    @Override
+    public Object read(Type type, Class<?> contextClass, HttpInputMessage inputMessage) throws IOException {
+        CodedInputStream in = CodedInputStream.newInstance(inputMessage.getBody());
+        try {
+            return isList(ResolvableType.forType(type))
+                    ? EmployeeProtobufCodec.readCreateRequests(in)
+                    : EmployeeProtobufCodec.readCreateRequest(in);
+        } catch (IOException ex) {
+            throw new HttpMessageNotReadableException("Malformed protobuf body: " + ex.getMessage(), ex, inputMessage);
+        }
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) throws IOException {
+        return read(clazz, null, inputMessage);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected void writeInternal(Object body, Type type, HttpOutputMessage outputMessage) throws IOException {
+        CodedOutputStream out = CodedOutputStream.newInstance(outputMessage.getBody(), BUFFER_SIZE);
+        if (body instanceof List<?> list) {
+            EmployeeProtobufCodec.writeEmployees((List<EmployeeResponse>) list, out);
+        } else {
+            EmployeeProtobufCodec.writeEmployee((EmployeeResponse) body, out);
+        }
+        out.flush();
+    }
+
+    private static boolean isReadable(ResolvableType type) {
+        Class<?> target = isList(type) ? type.getGeneric(0).resolve() : type.resolve();
+        return target == CreateEmployeeRequest.class;
+    }
+
+    private static boolean isWritable(ResolvableType type) {
+        Class<?> target = isList(type) ? type.getGeneric(0).resolve() : type.resolve();
+        return target == EmployeeResponse.class;
+    }
+
+    private static boolean isList(ResolvableType type) {
+        Class<?> raw = type.resolve();
+        return raw != null && List.class.isAssignableFrom(raw);
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.employee.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Data
+@ConfigurationProperties(prefix = "employee.logging.access")
+public class AccessLogProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * Fraction of requests written to the access log when no per-endpoint rate is configured.
+     */
+    private double defaultSampleRate = 0.01;
+
+    /**
+     * Per-endpoint sample rates keyed by {@code "<METHOD> <route pattern>"}, e.g.
+     * {@code "[GET /api/employees/{id}]": 0.001} (brackets keep the key intact in YAML).
+     */
+    private Map<String, Double> sampleRates = new LinkedHashMap<>();
+}
@@ -0,0 +1,14 @@
+package com.example.employee.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "employee.batch")
+public class BatchProperties {
+
+    /**
+     * Number of rows sent to the database per JDBC batch; also used as the flush interval for bulk writes.
+     */
+    private int size = 50;
+}
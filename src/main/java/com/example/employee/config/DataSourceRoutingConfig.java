@@ -0,0 +1,75 @@
+package com.example.employee.config;
+
+import com.example.employee.datasource.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Replaces the auto-configured datasource with a {@link ReplicaRoutingDataSource} once at least one
+ * {@code employee.datasource.replicas} entry is configured.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "employee.datasource", name = "replicas[0].url")
+public class DataSourceRoutingConfig {
+
+    @Bean
+    @ConfigurationProperties(prefix = "spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    @Primary
+    public ReplicaRoutingDataSource dataSource(HikariDataSource primaryDataSource,
+                                               DataSourceProperties properties,
+                                               DataSourceRoutingProperties routing,
+                                               ObjectProvider<MeterRegistry> meterRegistry) {
+        List<DataSource> replicas = new ArrayList<>();
+        for (DataSourceRoutingProperties.Replica replica : routing.getReplicas()) {
+            HikariDataSource dataSource = DataSourceBuilder.create()
+                    .type(HikariDataSource.class)
+                    .driverClassName(properties.getDriverClassName())
+                    .url(replica.getUrl())
+                    .username(replica.getUsername())
+                    .password(replica.getPassword())
+                    .build();
+            dataSource.setPoolName("replica-" + (replicas.size() + 1));
+            dataSource.setMaximumPoolSize(replica.getMaximumPoolSize());
+            dataSource.setConnectionTimeout(replica.getConnectionTimeout().toMillis());
+            dataSource.setReadOnly(true);
+            meterRegistry.ifAvailable(registry ->
+                    dataSource.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry)));
+            replicas.add(dataSource);
+        }
+
+        ReplicaRoutingDataSource dataSource = new ReplicaRoutingDataSource(primaryDataSource, replicas,
+                routing.getHealthCheckInterval(), routing.getMaxLag(), routing.getLagQuery());
+        meterRegistry.ifAvailable(registry -> {
+            Gauge.builder("employee.datasource.replicas.available", dataSource, ReplicaRoutingDataSource::availableReplicas)
+                    .description("Read replicas currently in rotation")
+                    .register(registry);
+            FunctionCounter.builder("employee.datasource.primary.fallbacks", dataSource,
+                            ReplicaRoutingDataSource::primaryFallbacks)
+                    .description("Read-only connections served by the primary because no replica was usable")
+                    .register(registry);
+        });
+        return dataSource;
+    }
+}
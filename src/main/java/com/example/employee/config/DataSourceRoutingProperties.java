@@ -0,0 +1,52 @@
+package com.example.employee.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@ConfigurationProperties(prefix = "employee.datasource")
+public class DataSourceRoutingProperties {
+
+    /**
+     * Read replicas that serve read-only transactions; with none configured every query goes to
+     * {@code spring.datasource}.
+     */
+    private List<Replica> replicas = new ArrayList<>();
+
+    /**
+     * How often each replica is probed for availability and lag.
+     */
+    private Duration healthCheckInterval = Duration.ofSeconds(10);
+
+    /**
+     * Replicas reporting more lag than this are skipped until they catch up. Unset means any lag is accepted.
+     */
+    private Duration maxLag;
+
+    /**
+     * Query returning the replica's lag in seconds, used with {@code max-lag}. Without it replicas are only
+     * checked for availability.
+     */
+    private String lagQuery;
+
+    @Data
+    public static class Replica {
+
+        private String url;
+
+        private String username;
+
+        private String password;
+
+        private int maximumPoolSize = 10;
+
+        /**
+         * Kept short so a replica that stops answering falls back to the primary quickly.
+         */
+        private Duration connectionTimeout = Duration.ofSeconds(1);
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.employee.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "employee.import")
+public class ImportProperties {
+
+    /**
+     * Rows committed per transaction; a failing chunk is rolled back on its own and the import continues.
+     */
+    private int chunkSize = 1000;
+
+    /**
+     * Imports that run at the same time; further imports queue.
+     */
+    private int concurrency = 2;
+
+    /**
+     * Imports waiting for a worker, each holding its spooled upload on disk; beyond this new imports are
+     * refused with 503 Service Unavailable.
+     */
+    private int queueCapacity = 10;
+
+    /**
+     * Finished jobs whose status stays available for polling.
+     */
+    private int retainedJobs = 100;
+
+    /**
+     * Row errors kept per job for the status resource; all failures are still counted.
+     */
+    private int maxReportedErrors = 100;
+}
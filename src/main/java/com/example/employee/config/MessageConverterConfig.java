@@ -0,0 +1,35 @@
+package com.example.employee.config;
+
+import com.example.employee.codec.EmployeeProtobufHttpMessageConverter;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+/**
+ * Binary representations negotiated through {@code Accept} and {@code Content-Type} next to the default JSON:
+ * CBOR ({@code application/cbor}), Smile ({@code application/x-jackson-smile}) and, for the employee payloads,
+ * Protobuf ({@code application/x-protobuf}). CBOR and Smile are built from Spring Boot's Jackson builder, so
+ * they carry the same modules and settings as the JSON mapper.
+ */
+@Configuration
+public class MessageConverterConfig {
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.createXmlMapper(false).factory(new CBORFactory()).build());
+    }
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.createXmlMapper(false).factory(new SmileFactory()).build());
+    }
+
+    @Bean
+    public EmployeeProtobufHttpMessageConverter protobufHttpMessageConverter() {
+        return new EmployeeProtobufHttpMessageConverter();
+    }
+}
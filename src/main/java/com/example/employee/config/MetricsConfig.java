@@ -0,0 +1,62 @@
+package com.example.employee.config;
+
+import com.example.employee.cache.CacheStats;
+import com.example.employee.cache.EmployeeResponseCache;
+import com.example.employee.cache.SingleFlight;
+import com.example.employee.cache.SingleFlightStats;
+import com.example.employee.service.EmployeeQueryCoalescer;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.function.ToDoubleFunction;
+
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public MeterBinder responseCacheMetrics(EmployeeResponseCache responseCache) {
+        return registry -> {
+            cacheCounter(responseCache, "hits", CacheStats::getHits).register(registry);
+            cacheCounter(responseCache, "misses", CacheStats::getMisses).register(registry);
+            cacheCounter(responseCache, "evictions", CacheStats::getEvictions).register(registry);
+            cacheCounter(responseCache, "expirations", CacheStats::getExpirations).register(registry);
+            Gauge.builder("employee.response.cache.size", responseCache, cache -> cache.stats().getSize())
+                    .register(registry);
+        };
+    }
+
+    /**
+     * Per coalesced query ({@code name} tag): calls by {@code result} (leader, shared, timeout), loads in flight,
+     * and the share of calls answered by another caller's load.
+     */
+    @Bean
+    public MeterBinder singleFlightMetrics(EmployeeQueryCoalescer coalescer) {
+        return registry -> coalescer.flights().forEach((name, flight) -> {
+            flightCounter(flight, name, "leader", SingleFlightStats::getLeaders).register(registry);
+            flightCounter(flight, name, "shared", SingleFlightStats::getShared).register(registry);
+            flightCounter(flight, name, "timeout", SingleFlightStats::getTimeouts).register(registry);
+            Gauge.builder("employee.single_flight.in_flight", flight, f -> f.stats().getInFlight())
+                    .tag("name", name)
+                    .register(registry);
+            Gauge.builder("employee.single_flight.coalescing.ratio", flight, f -> f.stats().getCoalescingRatio())
+                    .tag("name", name)
+                    .register(registry);
+        });
+    }
+
+    private static FunctionCounter.Builder<SingleFlight<?, ?>> flightCounter(
+            SingleFlight<?, ?> flight, String name, String result, ToDoubleFunction<SingleFlightStats> value) {
+        return FunctionCounter.builder("employee.single_flight.calls", flight, f -> value.applyAsDouble(f.stats()))
+                .tag("name", name)
+                .tag("result", result);
+    }
+
+    private static FunctionCounter.Builder<EmployeeResponseCache> cacheCounter(
+            EmployeeResponseCache responseCache, String name, ToDoubleFunction<CacheStats> value) {
+        return FunctionCounter.builder("employee.response.cache." + name, responseCache,
+                cache -> value.applyAsDouble(cache.stats()));
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.employee.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "employee.outbox")
+public class OutboxProperties {
+
+    /**
+     * Pause between dispatcher runs; each run publishes everything pending in batches.
+     */
+    private Duration dispatchInterval = Duration.ofMillis(200);
+
+    /**
+     * Outbox rows published, or replayed to a subscriber, per query.
+     */
+    private int batchSize = 500;
+
+    /**
+     * Most recent published changes kept in memory, so live subscribers are served without a query.
+     */
+    private int recentChanges = 2000;
+
+    /**
+     * How long published changes stay available for subscribers resuming from an older offset.
+     */
+    private Duration retention = Duration.ofDays(1);
+
+    /**
+     * Interval of the keep-alive comments sent to idle subscribers.
+     */
+    private Duration heartbeatInterval = Duration.ofSeconds(15);
+
+    /**
+     * Subscriptions end after this long; clients reconnect with {@code Last-Event-ID}.
+     */
+    private Duration subscriptionTimeout = Duration.ofMinutes(30);
+
+    /**
+     * Threads writing changes to subscribers.
+     */
+    private int deliveryThreads = 4;
+}
@@ -0,0 +1,45 @@
+package com.example.employee.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Data
+@ConfigurationProperties(prefix = "employee.rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * Clients tracked per endpoint. Beyond it, a new client takes over the bucket of the least recently seen one
+     * if that has fully refilled, and otherwise shares one overflow bucket with the other untracked clients.
+     */
+    private int maxTrackedClients = 10_000;
+
+    /**
+     * Limits keyed by {@code "<METHOD> <path pattern>"}, e.g. {@code "[GET /api/employees]"} (brackets keep the
+     * key intact in YAML). The first matching entry applies; requests matching none are not limited.
+     */
+    private Map<String, EndpointLimit> endpoints = new LinkedHashMap<>();
+
+    @Data
+    public static class EndpointLimit {
+
+        /**
+         * Sustained requests per second allowed for each client. Unset means no rate limit.
+         */
+        private Double requestsPerSecond;
+
+        /**
+         * Requests a client may send at once after being idle. Defaults to one second's worth.
+         */
+        private Integer burst;
+
+        /**
+         * Requests to this endpoint in progress at once, across all clients. Unset means no bulkhead.
+         */
+        private Integer maxConcurrent;
+    }
+}
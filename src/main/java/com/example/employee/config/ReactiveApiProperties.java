@@ -0,0 +1,33 @@
+package com.example.employee.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "employee.v2")
+public class ReactiveApiProperties {
+
+    /**
+     * R2DBC URL of the database behind {@code /api/v2}; defaults to the JDBC datasource's H2 URL so both
+     * APIs read and write the same tables.
+     */
+    private String url;
+
+    /**
+     * Maximum R2DBC connections; requests beyond it wait for a connection without holding a thread.
+     */
+    private int maxPoolSize = 20;
+
+    /**
+     * How long a request waits for an R2DBC connection before failing.
+     */
+    private Duration acquireTimeout = Duration.ofSeconds(1);
+
+    /**
+     * Rows requested from the database at a time while streaming; the next batch is only fetched once the
+     * client has consumed most of the previous one.
+     */
+    private int streamBatchSize = 256;
+}
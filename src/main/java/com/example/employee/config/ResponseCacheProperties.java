@@ -0,0 +1,20 @@
+package com.example.employee.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "employee.response-cache")
+public class ResponseCacheProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * Maximum number of serialized employees kept in memory; least recently used entries are evicted first.
+     */
+    private int maxEntries = 10_000;
+
+    private Duration ttl = Duration.ofMinutes(5);
+}
@@ -1,26 +1,44 @@
 package com.example.employee.config;
 
+import com.example.employee.logging.PrincipalCaptureFilter;
+import com.example.employee.ratelimit.RateLimitFilter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.access.intercept.AuthorizationFilter;
 
 @Configuration
 @EnableWebSecurity
+@RequiredArgsConstructor
 public class SecurityConfig {
 
+    private final RateLimitProperties rateLimitProperties;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
         http
-            .csrf(csrf -> csrf.ignoringRequestMatchers("/h2-console/**"))
+            // The API is stateless and cookie-less, so CSRF tokens would only block non-browser clients
+            .csrf(csrf -> csrf.ignoringRequestMatchers("/h2-console/**", "/api/**"))
             .authorizeHttpRequests(authz -> authz
-                .requestMatchers("/api/employees/**").permitAll()
+                .requestMatchers("/api/employees/**", "/api/v2/employees/**").permitAll()
                 .requestMatchers("/h2-console/**").permitAll()
+                .requestMatchers("/actuator/health/**", "/actuator/info", "/actuator/metrics/**", "/actuator/prometheus").permitAll()
                 .anyRequest().authenticated()
             )
-            .headers(headers -> headers.frameOptions(frameOptions -> frameOptions.disable())); // For H2 console
+            .headers(headers -> headers.frameOptions(frameOptions -> frameOptions.disable())) // For H2 console
+            // Not a bean, so the servlet container does not register it a second time outside the chain
+            .addFilterBefore(new RateLimitFilter(rateLimitProperties, objectMapper, meterRegistry),
+                    AuthorizationFilter.class)
+            // Hands the authenticated principal to the access and audit records, which are written outside the chain
+            .addFilterBefore(new PrincipalCaptureFilter(), AuthorizationFilter.class);
 
         return http.build();
     }
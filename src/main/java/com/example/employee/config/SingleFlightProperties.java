@@ -0,0 +1,18 @@
+package com.example.employee.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "employee.single-flight")
+public class SingleFlightProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * Longest a caller waits for an identical load already in flight before running its own.
+     */
+    private Duration maxWait = Duration.ofSeconds(2);
+}
@@ -0,0 +1,28 @@
+package com.example.employee.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.thread.Threading;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+
+@Configuration
+@RequiredArgsConstructor
+@Slf4j
+public class ThreadingConfig {
+
+    private final Environment environment;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void logThreadingMode() {
+        boolean requested = environment.getProperty("spring.threads.virtual.enabled", Boolean.class, false);
+        if (Threading.VIRTUAL.isActive(environment)) {
+            log.info("Handling requests on virtual threads");
+        } else if (requested) {
+            log.warn("Virtual threads were requested but need Java 21 or later (running {}); using platform threads",
+                    Runtime.version());
+        }
+    }
+}
@@ -1,23 +1,57 @@
 package com.example.employee.controller;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
+import java.util.Locale;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import com.example.employee.cache.CacheStats;
+import com.example.employee.cache.CachedResponse;
+import com.example.employee.cache.EmployeeHeadcounts;
+import com.example.employee.cache.EmployeeResponseCache;
+import com.example.employee.dto.BatchCreateResponse;
+import com.example.employee.dto.BulkDeleteRequest;
+import com.example.employee.dto.BulkDeleteResponse;
 import com.example.employee.dto.CreateEmployeeRequest;
+import com.example.employee.dto.EmployeePage;
 import com.example.employee.dto.EmployeeResponse;
+import com.example.employee.dto.EmployeeSearchCriteria;
+import com.example.employee.dto.EmployeeStats;
+import com.example.employee.dto.PageResponse;
+import com.example.employee.dto.PatchEmployeeRequest;
 import com.example.employee.dto.UpdateEmployeeRequest;
+import com.example.employee.export.EmployeeExporter;
+import com.example.employee.export.ExportFormat;
+import com.example.employee.outbox.EmployeeChangeStream;
+import com.example.employee.service.EmployeeQueryCoalescer;
 import com.example.employee.service.EmployeeService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 
+import io.micrometer.core.annotation.Timed;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -26,44 +60,281 @@ import lombok.extern.slf4j.Slf4j;
 @RequestMapping("/api/employees")
 @RequiredArgsConstructor
 @Slf4j
+@Timed(value = "employee.controller", histogram = true)
 public class EmployeeController {
 
+    private static final int DEFAULT_PAGE_LIMIT = 100;
+    private static final int MAX_PAGE_LIMIT = 1000;
+    private static final String MERGE_PATCH_JSON_VALUE = "application/merge-patch+json";
+
     private final EmployeeService employeeService;
+    private final EmployeeQueryCoalescer queries;
+    private final ObjectMapper objectMapper;
+    private final EmployeeResponseCache responseCache;
+    private final EmployeeHeadcounts headcounts;
+    private final EmployeeExporter exporter;
+    private final EmployeeChangeStream changeStream;
 
     @PostMapping
     public ResponseEntity<EmployeeResponse> createEmployee(@Valid @RequestBody CreateEmployeeRequest request) {
-        log.info("Received request to create employee with email: {}", request.getEmail());
+        log.debug("Received request to create employee with email: {}", request.getEmail());
         EmployeeResponse response = employeeService.createEmployee(request);
         return new ResponseEntity<>(response, HttpStatus.CREATED);
     }
 
+    /**
+     * Creates many employees at once. Returns 201 when every item was created, otherwise 207 with
+     * the outcome of each item.
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<BatchCreateResponse> createEmployees(@RequestBody List<CreateEmployeeRequest> requests) {
+        log.debug("Received request to create {} employees", requests.size());
+        BatchCreateResponse response = employeeService.createEmployees(requests);
+        HttpStatus status = response.getFailed() == 0 ? HttpStatus.CREATED : HttpStatus.MULTI_STATUS;
+        return new ResponseEntity<>(response, status);
+    }
+
+    /**
+     * Serves the employee from the serialized response cache when possible, skipping both the database
+     * and Jackson on a hit. The ETag is the employee's version: a matching {@code If-None-Match} gets a
+     * 304 from the cached tag, or on a miss from a version-only query, without rendering the body.
+     * The cache holds JSON only; clients preferring a binary format are rendered per request and get that
+     * format's own tag.
+     */
     @GetMapping("/{id}")
-    public ResponseEntity<EmployeeResponse> getEmployeeById(@PathVariable Long id) {
-        log.info("Received request to get employee with ID: {}", id);
-        EmployeeResponse response = employeeService.getEmployeeById(id);
-        return ResponseEntity.ok(response);
+    public ResponseEntity<?> getEmployeeById(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        log.debug("Received request to get employee with ID: {}", id);
+        MediaType representation = EmployeeRepresentations.negotiate(accept, EmployeeRepresentations.EMPLOYEES);
+        boolean json = MediaType.APPLICATION_JSON.equals(representation);
+        CachedResponse cached = json ? responseCache.getIfPresent(id) : null;
+        String etag = cached != null ? cached.getEtag()
+                : ifNoneMatch != null
+                        ? EmployeeETags.forRepresentation(EmployeeETags.of(employeeService.getEmployeeVersion(id)),
+                                representation)
+                        : null;
+        if (etag != null && EmployeeETags.noneMatch(ifNoneMatch, etag)) {
+            return notModified(etag);
+        }
+
+        if (!json) {
+            EmployeeResponse employee = queries.getEmployeeById(id);
+            return ok(representation, EmployeeETags.forRepresentation(EmployeeETags.of(employee.getVersion()),
+                    representation)).body(employee);
+        }
+        if (cached == null) {
+            cached = responseCache.getOrLoad(id, this::loadEmployeeJson);
+        }
+        return ok(MediaType.APPLICATION_JSON, cached.getEtag()).body(cached.getBody());
+    }
+
+    /**
+     * Headcounts per department and position, served from memory.
+     */
+    @GetMapping("/stats")
+    public ResponseEntity<EmployeeStats> getStats() {
+        return ResponseEntity.ok(headcounts.stats());
+    }
+
+    @GetMapping("/cache/stats")
+    public ResponseEntity<CacheStats> getCacheStats() {
+        return ResponseEntity.ok(responseCache.stats());
     }
 
+    /**
+     * Returns all employees, or a single keyset page when {@code limit} or {@code after} is given.
+     * Pages are ordered by ID; the next page, if any, is advertised in a {@code Link: rel="next"} header.
+     * The ETag covers the IDs and versions on the page and the format, so an unchanged page is answered
+     * with 304 before it is serialized.
+     */
     @GetMapping
-    public ResponseEntity<List<EmployeeResponse>> getAllEmployees() {
-        log.info("Received request to get all employees");
-        List<EmployeeResponse> responses = employeeService.getAllEmployees();
-        return ResponseEntity.ok(responses);
+    public ResponseEntity<List<EmployeeResponse>> getAllEmployees(
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) Long after,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        MediaType representation = EmployeeRepresentations.negotiate(accept, EmployeeRepresentations.EMPLOYEES);
+        if (limit == null && after == null) {
+            log.debug("Received request to get all employees");
+            List<EmployeeResponse> responses = queries.getAllEmployees();
+            String etag = EmployeeETags.forRepresentation(EmployeeETags.of(responses), representation);
+            if (EmployeeETags.noneMatch(ifNoneMatch, etag)) {
+                return notModified(etag);
+            }
+            return ok(representation, etag).body(responses);
+        }
+
+        int pageLimit = limit == null ? DEFAULT_PAGE_LIMIT : Math.max(1, Math.min(limit, MAX_PAGE_LIMIT));
+        log.debug("Received request to get {} employees after ID: {}", pageLimit, after);
+        EmployeePage page = queries.getEmployeesPage(after, pageLimit);
+        String etag = EmployeeETags.forRepresentation(
+                EmployeeETags.of(page.getContent(), page.getNextCursor(), pageLimit), representation);
+        if (EmployeeETags.noneMatch(ifNoneMatch, etag)) {
+            return notModified(etag);
+        }
+
+        ResponseEntity.BodyBuilder builder = ok(representation, etag);
+        if (page.getNextCursor() != null) {
+            String next = ServletUriComponentsBuilder.fromCurrentRequest()
+                    .replaceQueryParam("after", page.getNextCursor())
+                    .replaceQueryParam("limit", pageLimit)
+                    .toUriString();
+            builder.header(HttpHeaders.LINK, "<" + next + ">; rel=\"next\"");
+        }
+        return builder.body(page.getContent());
+    }
+
+    /**
+     * Filters by exact department and position, first/last name prefix and a free-text query {@code q},
+     * all combined with AND. Supports {@code page}, {@code size} and {@code sort} parameters.
+     */
+    @GetMapping("/search")
+    public ResponseEntity<PageResponse<EmployeeResponse>> searchEmployees(
+            EmployeeSearchCriteria criteria,
+            @PageableDefault(size = 20, sort = "id", direction = Sort.Direction.ASC) Pageable pageable,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        log.debug("Received request to search employees with {}", criteria);
+        MediaType representation = EmployeeRepresentations.negotiate(accept, EmployeeRepresentations.JACKSON);
+        PageResponse<EmployeeResponse> page = queries.searchEmployees(criteria, pageable);
+        String etag = EmployeeETags.forRepresentation(
+                EmployeeETags.of(page.getContent(), page.getPage(), page.getSize(), page.getTotalElements()),
+                representation);
+        if (EmployeeETags.noneMatch(ifNoneMatch, etag)) {
+            return notModified(etag);
+        }
+        return ok(representation, etag).body(page);
+    }
+
+    /**
+     * Streams every employee as newline-delimited JSON, writing rows as they are read from the database.
+     */
+    @GetMapping(path = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAllEmployees() {
+        log.debug("Received request to stream all employees");
+        StreamingResponseBody body = outputStream -> exporter.export(ExportFormat.NDJSON, false, outputStream);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
     }
 
+    /**
+     * Downloads the full roster as {@code csv} or {@code ndjson}, streamed from a database cursor.
+     * The body is gzip-compressed when the client sends {@code Accept-Encoding: gzip}.
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportEmployees(
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        ExportFormat exportFormat = ExportFormat.forParameter(format)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                        "Unsupported export format " + format + ", expected csv or ndjson"));
+        boolean gzip = acceptEncoding != null && acceptEncoding.toLowerCase(Locale.ROOT).contains("gzip");
+        log.debug("Received request to export employees as {} (gzip: {})", exportFormat, gzip);
+
+        StreamingResponseBody body = outputStream -> exporter.export(exportFormat, gzip, outputStream);
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .contentType(exportFormat.getMediaType())
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("employees." + exportFormat.getExtension())
+                        .build()
+                        .toString());
+        if (gzip) {
+            builder.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return builder.body(body);
+    }
+
+    /**
+     * Server-Sent Events stream of employee changes. Each event carries its offset as the event ID; a client
+     * resumes after a disconnect with {@code Last-Event-ID} (sent automatically by browsers) or {@code after}.
+     * Without either, only changes from now on are sent.
+     */
+    @GetMapping(path = "/changes", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamChanges(
+            @RequestParam(required = false) Long after,
+            @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId) {
+        Long from = after != null ? after : lastEventId;
+        log.debug("Received subscription to employee changes after offset {}", from);
+        return changeStream.subscribe(from);
+    }
+
+    /**
+     * Replaces the employee. With {@code If-Match: "<version>"} the update is rejected with 412 unless the
+     * employee is still at that version.
+     */
     @PutMapping("/{id}")
     public ResponseEntity<EmployeeResponse> updateEmployee(
             @PathVariable Long id,
-            @Valid @RequestBody UpdateEmployeeRequest request) {
-        log.info("Received request to update employee with ID: {}", id);
-        EmployeeResponse response = employeeService.updateEmployee(id, request);
-        return ResponseEntity.ok(response);
+            @Valid @RequestBody UpdateEmployeeRequest request,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        log.debug("Received request to update employee with ID: {}", id);
+        EmployeeResponse response = employeeService.updateEmployee(id, request, EmployeeETags.requiredVersion(ifMatch));
+        return ResponseEntity.ok()
+                .eTag(EmployeeETags.of(response.getVersion()))
+                .body(response);
+    }
+
+    /**
+     * Applies a JSON merge patch: only the fields present in the body are changed. Honors {@code If-Match}
+     * like PUT.
+     */
+    @PatchMapping(path = "/{id}", consumes = {MERGE_PATCH_JSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<EmployeeResponse> patchEmployee(
+            @PathVariable Long id,
+            @Valid @RequestBody PatchEmployeeRequest request,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        log.debug("Received request to patch employee with ID: {}", id);
+        EmployeeResponse response = employeeService.patchEmployee(id, request, EmployeeETags.requiredVersion(ifMatch));
+        return ResponseEntity.ok()
+                .eTag(EmployeeETags.of(response.getVersion()))
+                .body(response);
     }
 
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteEmployee(@PathVariable Long id) {
-        log.info("Received request to delete employee with ID: {}", id);
+        log.debug("Received request to delete employee with ID: {}", id);
         employeeService.deleteEmployee(id);
         return ResponseEntity.noContent().build();
     }
+
+    /**
+     * Deletes employees by {@code ids} and/or a {@code department}/{@code position} filter given in the body,
+     * reporting the outcome per ID.
+     */
+    @DeleteMapping
+    public ResponseEntity<BulkDeleteResponse> deleteEmployees(@Valid @RequestBody BulkDeleteRequest request) {
+        log.debug("Received request to delete employees matching {}", request);
+        return ResponseEntity.ok(employeeService.deleteEmployees(request));
+    }
+
+    /**
+     * 200 in the negotiated format, which is fixed as the content type so the body matches its tag.
+     */
+    private static ResponseEntity.BodyBuilder ok(MediaType representation, String etag) {
+        return ResponseEntity.ok()
+                .contentType(representation)
+                .eTag(etag)
+                .varyBy(HttpHeaders.ACCEPT);
+    }
+
+    private static <T> ResponseEntity<T> notModified(String etag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .eTag(etag)
+                .varyBy(HttpHeaders.ACCEPT)
+                .build();
+    }
+
+    private CachedResponse loadEmployeeJson(Long id) {
+        try {
+            // Cached until invalidated, so it must not come from a lagging replica
+            EmployeeResponse employee = queries.getEmployeeByIdFromPrimary(id);
+            return new CachedResponse(objectMapper.writeValueAsBytes(employee), EmployeeETags.of(employee.getVersion()));
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
 }
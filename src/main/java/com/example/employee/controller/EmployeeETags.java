@@ -0,0 +1,99 @@
+package com.example.employee.controller;
+
+import com.example.employee.dto.EmployeeResponse;
+import com.example.employee.exception.EmployeeVersionMismatchException;
+import org.springframework.http.MediaType;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Strong entity tags derived from employee versions, so they can be computed and compared without
+ * serializing a body. JSON bodies carry the plain tag; every other format gets its own variant of it,
+ * since two encodings of the same version are different bytes.
+ */
+final class EmployeeETags {
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private EmployeeETags() {
+    }
+
+    static String of(Long version) {
+        return "\"" + version + "\"";
+    }
+
+    /**
+     * Tag for a list of employees: a hash of every ID and version in order plus any extra values the
+     * representation depends on, such as the next cursor or the total count.
+     */
+    static String of(List<EmployeeResponse> employees, Object... extras) {
+        long hash = FNV_OFFSET_BASIS;
+        for (EmployeeResponse employee : employees) {
+            hash = mix(hash, employee.getId());
+            hash = mix(hash, employee.getVersion() == null ? -1L : employee.getVersion());
+        }
+        for (Object extra : extras) {
+            hash = mix(hash, Objects.hashCode(extra));
+        }
+        return "\"" + Long.toHexString(hash) + "-" + employees.size() + "\"";
+    }
+
+    /**
+     * {@code etag} for the body rendered as {@code representation}: {@code "7"} for JSON, {@code "7-cbor"},
+     * {@code "7-jackson-smile"} or {@code "7-protobuf"} otherwise.
+     */
+    static String forRepresentation(String etag, MediaType representation) {
+        if (MediaType.APPLICATION_JSON.equalsTypeAndSubtype(representation)) {
+            return etag;
+        }
+        String subtype = representation.getSubtype();
+        String format = subtype.startsWith("x-") ? subtype.substring(2) : subtype;
+        return etag.substring(0, etag.length() - 1) + "-" + format + "\"";
+    }
+
+    /**
+     * Whether an {@code If-None-Match} header matches {@code etag}, using the weak comparison that header
+     * calls for. For handlers that cannot use {@code WebRequest#checkNotModified}, because they complete
+     * off the request thread or answer 304 with headers of their own.
+     */
+    static boolean noneMatch(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*") || (tag.startsWith("W/") ? tag.substring(2) : tag).equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * The version an {@code If-Match} header requires, or {@code null} when any current version will do.
+     * Only a single strong tag of any representation or {@code *} can match an employee; anything else fails
+     * the precondition.
+     */
+    static Long requiredVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        if (tag.length() > 2 && tag.startsWith("\"") && tag.endsWith("\"")) {
+            String value = tag.substring(1, tag.length() - 1);
+            int format = value.indexOf('-');
+            try {
+                return Long.valueOf(format < 0 ? value : value.substring(0, format));
+            } catch (NumberFormatException ignored) {
+                // Not one of our tags, so it cannot match
+            }
+        }
+        throw new EmployeeVersionMismatchException("If-Match " + ifMatch + " does not match the current employee version");
+    }
+
+    private static long mix(long hash, long value) {
+        return (hash ^ value) * FNV_PRIME;
+    }
+}
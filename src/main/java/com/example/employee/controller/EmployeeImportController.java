@@ -0,0 +1,63 @@
+package com.example.employee.controller;
+
+import java.io.InputStream;
+import java.net.URI;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.HttpMediaTypeNotSupportedException;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import com.example.employee.dto.ImportJobStatus;
+import com.example.employee.importer.EmployeeImportService;
+import com.example.employee.importer.ImportFormat;
+
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@RestController
+@RequestMapping("/api/employees/imports")
+@RequiredArgsConstructor
+@Slf4j
+@Timed(value = "employee.controller", histogram = true)
+public class EmployeeImportController {
+
+    private final EmployeeImportService importService;
+
+    /**
+     * Accepts a {@code text/csv} or {@code application/x-ndjson} upload as the raw request body and starts
+     * importing it in the background. Returns 202 with the job, whose status is at the {@code Location} URL.
+     */
+    @PostMapping
+    public ResponseEntity<ImportJobStatus> startImport(
+            @RequestHeader(value = HttpHeaders.CONTENT_TYPE, required = false) MediaType contentType,
+            InputStream body) throws HttpMediaTypeNotSupportedException {
+        ImportFormat format = Optional.ofNullable(contentType)
+                .flatMap(ImportFormat::forContentType)
+                .orElseThrow(() -> new HttpMediaTypeNotSupportedException(contentType,
+                        List.of(ImportFormat.CSV.getMediaType(), ImportFormat.NDJSON.getMediaType())));
+        log.debug("Received request to import employees as {}", format);
+
+        ImportJobStatus status = importService.startImport(body, format);
+        URI location = ServletUriComponentsBuilder.fromCurrentRequestUri()
+                .path("/{id}")
+                .buildAndExpand(status.getId())
+                .toUri();
+        return ResponseEntity.accepted().location(location).body(status);
+    }
+
+    @GetMapping("/{jobId}")
+    public ResponseEntity<ImportJobStatus> getImportStatus(@PathVariable String jobId) {
+        return ResponseEntity.ok(importService.getStatus(jobId));
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.employee.controller;
+
+import com.example.employee.codec.EmployeeProtobufHttpMessageConverter;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+
+/**
+ * The formats employee reads are rendered in, and the choice between them for an {@code Accept} header.
+ * <p>
+ * Handlers that tag or cache a body per format decide here first and then fix the response
+ * {@code Content-Type} to that decision, so the body written is always the one its ETag was computed for.
+ */
+final class EmployeeRepresentations {
+
+    private static final MediaType SMILE = new MediaType("application", "x-jackson-smile");
+
+    /**
+     * Formats of employees and employee lists. When the client rates several equally the first wins, so
+     * JSON stays the default for a wildcard or a missing header.
+     */
+    static final List<MediaType> EMPLOYEES = List.of(
+            MediaType.APPLICATION_JSON,
+            MediaType.APPLICATION_CBOR,
+            SMILE,
+            EmployeeProtobufHttpMessageConverter.PROTOBUF);
+
+    /**
+     * Formats of payloads without a protobuf schema, such as search pages.
+     */
+    static final List<MediaType> JACKSON = EMPLOYEES.subList(0, 3);
+
+    private EmployeeRepresentations() {
+    }
+
+    /**
+     * The format in {@code supported} the client rates highest, using for each format the quality of the
+     * most specific {@code Accept} range that includes it. Answers 406 when the client accepts none of them.
+     */
+    static MediaType negotiate(String accept, List<MediaType> supported) {
+        if (accept == null || accept.isBlank()) {
+            return supported.get(0);
+        }
+        List<MediaType> ranges;
+        try {
+            ranges = MediaType.parseMediaTypes(accept);
+        } catch (InvalidMediaTypeException ex) {
+            throw new ResponseStatusException(HttpStatus.NOT_ACCEPTABLE, "Malformed Accept header " + accept);
+        }
+
+        MediaType best = null;
+        double bestQuality = 0;
+        for (MediaType candidate : supported) {
+            double quality = quality(ranges, candidate);
+            if (quality > bestQuality) {
+                best = candidate;
+                bestQuality = quality;
+            }
+        }
+        if (best == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_ACCEPTABLE,
+                    "Acceptable representations are " + supported);
+        }
+        return best;
+    }
+
+    private static double quality(List<MediaType> ranges, MediaType candidate) {
+        MediaType match = null;
+        for (MediaType range : ranges) {
+            if (range.includes(candidate) && (match == null || specificity(range) > specificity(match))) {
+                match = range;
+            }
+        }
+        return match == null ? 0 : match.getQualityValue();
+    }
+
+    private static int specificity(MediaType range) {
+        return range.isWildcardType() ? 0 : range.isWildcardSubtype() ? 1 : 2;
+    }
+}
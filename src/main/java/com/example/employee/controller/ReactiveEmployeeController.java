@@ -0,0 +1,179 @@
+package com.example.employee.controller;
+
+import java.util.List;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import com.example.employee.dto.CreateEmployeeRequest;
+import com.example.employee.dto.EmployeeResponse;
+import com.example.employee.dto.UpdateEmployeeRequest;
+import com.example.employee.reactive.ReactiveEmployeeService;
+
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Version 2 of the employee API: create, read, list, stream, update and delete with the same status codes,
+ * ETags, {@code If-Match} handling and keyset paging as {@link EmployeeController}, served by non-blocking
+ * handlers over R2DBC.
+ * <p>
+ * Handlers return {@link Mono} or {@link Flux}, so no request thread is held while a query runs; the
+ * response is written once the publisher completes. Search, patch, bulk operations, export and the change
+ * stream are only available in v1.
+ */
+@RestController
+@RequestMapping("/api/v2/employees")
+@RequiredArgsConstructor
+@Slf4j
+public class ReactiveEmployeeController {
+
+    private static final int DEFAULT_PAGE_LIMIT = 100;
+    private static final int MAX_PAGE_LIMIT = 1000;
+
+    private final ReactiveEmployeeService employeeService;
+
+    @PostMapping
+    public Mono<ResponseEntity<EmployeeResponse>> createEmployee(@Valid @RequestBody CreateEmployeeRequest request) {
+        log.debug("Received request to create employee with email: {}", request.getEmail());
+        return employeeService.createEmployee(request)
+                .map(response -> new ResponseEntity<>(response, HttpStatus.CREATED));
+    }
+
+    /**
+     * The ETag is the employee's version, tagged with the negotiated format. A matching {@code If-None-Match}
+     * is answered with 304 from a version-only query, without reading the row.
+     */
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<EmployeeResponse>> getEmployeeById(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        log.debug("Received request to get employee with ID: {}", id);
+        MediaType representation = EmployeeRepresentations.negotiate(accept, EmployeeRepresentations.EMPLOYEES);
+        Mono<ResponseEntity<EmployeeResponse>> employee = employeeService.getEmployeeById(id)
+                .map(response -> ok(representation,
+                        EmployeeETags.forRepresentation(EmployeeETags.of(response.getVersion()), representation))
+                        .body(response));
+        if (ifNoneMatch == null) {
+            return employee;
+        }
+
+        return employeeService.getEmployeeVersion(id)
+                .flatMap(version -> {
+                    String etag = EmployeeETags.forRepresentation(EmployeeETags.of(version), representation);
+                    return EmployeeETags.noneMatch(ifNoneMatch, etag) ? Mono.just(notModified(etag)) : employee;
+                });
+    }
+
+    /**
+     * Returns all employees, or a single keyset page when {@code limit} or {@code after} is given, exactly
+     * like v1. Use {@code /stream} to receive a large result set incrementally.
+     */
+    @GetMapping
+    public Mono<ResponseEntity<List<EmployeeResponse>>> getAllEmployees(
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) Long after,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        MediaType representation = EmployeeRepresentations.negotiate(accept, EmployeeRepresentations.EMPLOYEES);
+        if (limit == null && after == null) {
+            log.debug("Received request to get all employees");
+            return employeeService.getAllEmployees()
+                    .collectList()
+                    .map(responses -> {
+                        String etag = EmployeeETags.forRepresentation(EmployeeETags.of(responses), representation);
+                        return EmployeeETags.noneMatch(ifNoneMatch, etag)
+                                ? notModified(etag)
+                                : ok(representation, etag).body(responses);
+                    });
+        }
+
+        int pageLimit = limit == null ? DEFAULT_PAGE_LIMIT : Math.max(1, Math.min(limit, MAX_PAGE_LIMIT));
+        log.debug("Received request to get {} employees after ID: {}", pageLimit, after);
+        // Captured here: the current request is bound to this thread, not to the one completing the page
+        UriComponentsBuilder nextLink = ServletUriComponentsBuilder.fromCurrentRequest();
+        return employeeService.getEmployeesPage(after, pageLimit)
+                .map(page -> {
+                    String etag = EmployeeETags.forRepresentation(
+                            EmployeeETags.of(page.getContent(), page.getNextCursor(), pageLimit), representation);
+                    if (EmployeeETags.noneMatch(ifNoneMatch, etag)) {
+                        return notModified(etag);
+                    }
+
+                    ResponseEntity.BodyBuilder builder = ok(representation, etag);
+                    if (page.getNextCursor() != null) {
+                        String next = nextLink
+                                .replaceQueryParam("after", page.getNextCursor())
+                                .replaceQueryParam("limit", pageLimit)
+                                .toUriString();
+                        builder.header(HttpHeaders.LINK, "<" + next + ">; rel=\"next\"");
+                    }
+                    return builder.body(page.getContent());
+                });
+    }
+
+    /**
+     * Streams every employee as newline-delimited JSON. Each row is written and flushed before the next one
+     * is requested, so a slow client slows the query down instead of buffering the table in memory.
+     */
+    @GetMapping(path = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<EmployeeResponse> streamAllEmployees() {
+        log.debug("Received request to stream all employees");
+        return employeeService.streamAllEmployees();
+    }
+
+    /**
+     * Replaces the employee. With {@code If-Match: "<version>"} the update is rejected with 412 unless the
+     * employee is still at that version.
+     */
+    @PutMapping("/{id}")
+    public Mono<ResponseEntity<EmployeeResponse>> updateEmployee(
+            @PathVariable Long id,
+            @Valid @RequestBody UpdateEmployeeRequest request,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        log.debug("Received request to update employee with ID: {}", id);
+        return employeeService.updateEmployee(id, request, EmployeeETags.requiredVersion(ifMatch))
+                .map(response -> ResponseEntity.ok()
+                        .eTag(EmployeeETags.of(response.getVersion()))
+                        .body(response));
+    }
+
+    @DeleteMapping("/{id}")
+    public Mono<ResponseEntity<Void>> deleteEmployee(@PathVariable Long id) {
+        log.debug("Received request to delete employee with ID: {}", id);
+        return employeeService.deleteEmployee(id)
+                .thenReturn(ResponseEntity.noContent().<Void>build());
+    }
+
+    private static ResponseEntity.BodyBuilder ok(MediaType representation, String etag) {
+        return ResponseEntity.ok()
+                .contentType(representation)
+                .eTag(etag)
+                .varyBy(HttpHeaders.ACCEPT);
+    }
+
+    private static <T> ResponseEntity<T> notModified(String etag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .eTag(etag)
+                .varyBy(HttpHeaders.ACCEPT)
+                .build();
+    }
+}
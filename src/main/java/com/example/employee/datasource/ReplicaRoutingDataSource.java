@@ -0,0 +1,194 @@
+package com.example.employee.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Sends read-only transactions to a read replica and everything else to the primary.
+ * <p>
+ * Connections are handed out lazily: the physical connection is only fetched on the first statement, by which
+ * time the transaction manager has marked it read-only, so {@code @Transactional(readOnly = true)} is all that
+ * decides the target. Reads that must see the latest commit, such as those whose result outlives the request,
+ * therefore run in a read-write transaction.
+ * <p>
+ * Replicas are used round-robin. One that fails to hand out a connection, fails its periodic probe, or reports
+ * more lag than {@code maxLag} is skipped until a later probe succeeds; when no replica is usable the read runs
+ * on the primary.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends LazyConnectionDataSourceProxy implements AutoCloseable {
+
+    private static final int VALIDATION_TIMEOUT_SECONDS = 2;
+
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final Duration healthCheckInterval;
+    private final Duration maxLag;
+    private final String lagQuery;
+    private final AtomicInteger next = new AtomicInteger();
+    private final LongAdder primaryFallbacks = new LongAdder();
+    private ScheduledExecutorService healthChecker;
+
+    public ReplicaRoutingDataSource(DataSource primary, List<DataSource> replicas, Duration healthCheckInterval,
+                                    Duration maxLag, String lagQuery) {
+        this.primary = primary;
+        this.replicas = replicas.stream().map(Replica::new).toList();
+        this.healthCheckInterval = healthCheckInterval;
+        this.maxLag = maxLag;
+        this.lagQuery = lagQuery;
+        setTargetDataSource(primary);
+        setReadOnlyDataSource(new ReplicaSelector());
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        super.afterPropertiesSet();
+        if (healthCheckInterval != null && !healthCheckInterval.isZero()) {
+            healthChecker = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("replica-health-"));
+            healthChecker.scheduleWithFixedDelay(this::checkReplicas, 0, healthCheckInterval.toMillis(),
+                    TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Probes every replica, taking it out of rotation when unreachable or too far behind and back in once it
+     * recovers.
+     */
+    public void checkReplicas() {
+        for (Replica replica : replicas) {
+            replica.check();
+        }
+    }
+
+    public int availableReplicas() {
+        return (int) replicas.stream().filter(replica -> replica.available).count();
+    }
+
+    /**
+     * Read-only connections that went to the primary because no replica was usable.
+     */
+    public long primaryFallbacks() {
+        return primaryFallbacks.sum();
+    }
+
+    /**
+     * Stops the health checks and closes the replica pools; the primary is left to its owner.
+     */
+    @Override
+    public void close() throws Exception {
+        if (healthChecker != null) {
+            healthChecker.shutdownNow();
+        }
+        for (Replica replica : replicas) {
+            if (replica.dataSource instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    private final class ReplicaSelector extends AbstractDataSource {
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return route(DataSource::getConnection);
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return route(dataSource -> dataSource.getConnection(username, password));
+        }
+
+        private Connection route(ConnectionFactory connectionFactory) throws SQLException {
+            int size = replicas.size();
+            int start = Math.floorMod(next.getAndIncrement(), Math.max(size, 1));
+            for (int i = 0; i < size; i++) {
+                Replica replica = replicas.get((start + i) % size);
+                if (!replica.available) {
+                    continue;
+                }
+                try {
+                    return connectionFactory.connect(replica.dataSource);
+                } catch (SQLException ex) {
+                    replica.markDown(ex);
+                }
+            }
+            primaryFallbacks.increment();
+            return connectionFactory.connect(primary);
+        }
+    }
+
+    @FunctionalInterface
+    private interface ConnectionFactory {
+
+        Connection connect(DataSource dataSource) throws SQLException;
+    }
+
+    private final class Replica {
+
+        private final DataSource dataSource;
+        private volatile boolean available = true;
+
+        private Replica(DataSource dataSource) {
+            this.dataSource = dataSource;
+        }
+
+        private void markDown(SQLException ex) {
+            if (available) {
+                log.warn("Read replica {} is unavailable, routing its reads elsewhere: {}", dataSource, ex.getMessage());
+            }
+            available = false;
+        }
+
+        private void check() {
+            try (Connection connection = dataSource.getConnection()) {
+                if (!connection.isValid(VALIDATION_TIMEOUT_SECONDS)) {
+                    markDown(new SQLException("Connection validation failed"));
+                    return;
+                }
+                if (maxLag != null && lagQuery != null) {
+                    double lagSeconds = queryLagSeconds(connection);
+                    if (lagSeconds * 1000 > maxLag.toMillis()) {
+                        if (available) {
+                            log.warn("Read replica {} is {}s behind, above the {} limit", dataSource, lagSeconds, maxLag);
+                        }
+                        available = false;
+                        return;
+                    }
+                }
+                if (!available) {
+                    log.info("Read replica {} is back in rotation", dataSource);
+                }
+                available = true;
+            } catch (SQLException ex) {
+                markDown(ex);
+            }
+        }
+
+        private double queryLagSeconds(Connection connection) throws SQLException {
+            try (Statement statement = connection.createStatement();
+                 ResultSet resultSet = statement.executeQuery(lagQuery)) {
+                // No row or NULL means the replica cannot tell how far behind it is; treat it as too far
+                if (!resultSet.next()) {
+                    return Double.MAX_VALUE;
+                }
+                double lag = resultSet.getDouble(1);
+                return resultSet.wasNull() ? Double.MAX_VALUE : lag;
+            }
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.employee.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchCreateResponse {
+
+    private int created;
+    private int failed;
+    private List<BatchCreateResult> results;
+}
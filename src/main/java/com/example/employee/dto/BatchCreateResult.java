@@ -0,0 +1,30 @@
+package com.example.employee.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BatchCreateResult {
+
+    public enum Status {
+        CREATED,
+        INVALID,
+        CONFLICT
+    }
+
+    private int index;
+    private Status status;
+    private Long id;
+    private String email;
+    private String message;
+    private Map<String, String> errors;
+}
@@ -0,0 +1,33 @@
+package com.example.employee.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.validation.constraints.AssertTrue;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Selects the employees to delete by ID, by department and/or position, or by both; all given criteria
+ * must match. At least one is required so a request can never delete everyone by accident.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkDeleteRequest {
+
+    private List<Long> ids;
+    private String department;
+    private String position;
+
+    @JsonIgnore
+    @AssertTrue(message = "Specify ids, department or position")
+    public boolean isSelective() {
+        return (ids != null && !ids.isEmpty())
+                || (department != null && !department.isBlank())
+                || (position != null && !position.isBlank());
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.employee.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkDeleteResponse {
+
+    private int deleted;
+    private int notFound;
+    private List<BulkDeleteResult> results;
+}
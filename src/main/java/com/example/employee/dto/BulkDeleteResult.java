@@ -0,0 +1,21 @@
+package com.example.employee.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkDeleteResult {
+
+    public enum Status {
+        DELETED,
+        NOT_FOUND
+    }
+
+    private Long id;
+    private Status status;
+}
@@ -0,0 +1,29 @@
+package com.example.employee.dto;
+
+import com.example.employee.event.EmployeeChangedEvent;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * One entry of the change stream.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeeChange {
+
+    private EmployeeChangedEvent.Type type;
+    private Long employeeId;
+
+    /**
+     * The employee after the change, or its last state for deletes.
+     */
+    private EmployeeResponse employee;
+
+    private LocalDateTime occurredAt;
+}
@@ -0,0 +1,23 @@
+package com.example.employee.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeePage {
+
+    private List<EmployeeResponse> content;
+
+    /**
+     * ID of the last employee in {@link #content}, to be passed as {@code after} for the next page;
+     * {@code null} when there are no more employees.
+     */
+    private Long nextCursor;
+}
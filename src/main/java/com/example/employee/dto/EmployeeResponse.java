@@ -21,4 +21,5 @@ public class EmployeeResponse {
     private String position;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private Long version;
 }
@@ -0,0 +1,26 @@
+package com.example.employee.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeeSearchCriteria {
+
+    private String department;
+    private String position;
+
+    /**
+     * Prefix of the first or last name.
+     */
+    private String name;
+
+    /**
+     * Free-text query; every word must appear in the name, department or position.
+     */
+    private String q;
+}
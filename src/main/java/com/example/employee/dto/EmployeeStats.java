@@ -0,0 +1,25 @@
+package com.example.employee.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeeStats {
+
+    private long total;
+    private Map<String, Long> departments;
+    private Map<String, Long> positions;
+
+    /**
+     * When the counts were last checked against the database.
+     */
+    private LocalDateTime reconciledAt;
+}
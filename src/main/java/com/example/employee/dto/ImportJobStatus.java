@@ -0,0 +1,44 @@
+package com.example.employee.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ImportJobStatus {
+
+    public enum State {
+        QUEUED,
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+
+    private String id;
+    private String format;
+    private State state;
+    private long rowsProcessed;
+    private long rowsImported;
+    private long rowsFailed;
+    private long chunksCommitted;
+    private long chunksFailed;
+    private double rowsPerSecond;
+    private LocalDateTime createdAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+
+    /**
+     * Why the job stopped early, when it did.
+     */
+    private String error;
+    private List<ImportRowError> errors;
+}
@@ -0,0 +1,19 @@
+package com.example.employee.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportRowError {
+
+    /**
+     * Line of the uploaded file the row starts on, counting from 1.
+     */
+    private long line;
+    private String message;
+}
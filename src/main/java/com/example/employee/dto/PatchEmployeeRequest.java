@@ -0,0 +1,44 @@
+package com.example.employee.dto;
+
+import com.fasterxml.jackson.annotation.JsonSetter;
+import com.fasterxml.jackson.annotation.Nulls;
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.Pattern;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * JSON merge patch (RFC 7396) of an employee: absent fields are left unchanged. Every column is required,
+ * so an explicit {@code null}, which would remove the field, is rejected when the body is read.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PatchEmployeeRequest {
+
+    private static final String NOT_BLANK = ".*\\S.*";
+
+    @JsonSetter(nulls = Nulls.FAIL)
+    @Pattern(regexp = NOT_BLANK, message = "First name must not be blank")
+    private String firstName;
+
+    @JsonSetter(nulls = Nulls.FAIL)
+    @Pattern(regexp = NOT_BLANK, message = "Last name must not be blank")
+    private String lastName;
+
+    @JsonSetter(nulls = Nulls.FAIL)
+    @Pattern(regexp = NOT_BLANK, message = "Email must not be blank")
+    @Email(message = "Email should be valid")
+    private String email;
+
+    @JsonSetter(nulls = Nulls.FAIL)
+    @Pattern(regexp = NOT_BLANK, message = "Department must not be blank")
+    private String department;
+
+    @JsonSetter(nulls = Nulls.FAIL)
+    @Pattern(regexp = NOT_BLANK, message = "Position must not be blank")
+    private String position;
+}
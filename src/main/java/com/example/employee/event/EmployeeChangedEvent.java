@@ -0,0 +1,37 @@
+package com.example.employee.event;
+
+import com.example.employee.dto.EmployeeResponse;
+import lombok.Value;
+
+/**
+ * Published by the service layer whenever an employee is created, updated or deleted.
+ * <p>
+ * {@code before} and {@code after} hold the state on either side of the change when it is known:
+ * {@code before} is {@code null} for creates, {@code after} is {@code null} for deletes.
+ */
+@Value
+public class EmployeeChangedEvent {
+
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+
+    Type type;
+    Long id;
+    EmployeeResponse before;
+    EmployeeResponse after;
+
+    public static EmployeeChangedEvent created(EmployeeResponse after) {
+        return new EmployeeChangedEvent(Type.CREATED, after.getId(), null, after);
+    }
+
+    public static EmployeeChangedEvent updated(EmployeeResponse before, EmployeeResponse after) {
+        return new EmployeeChangedEvent(Type.UPDATED, after.getId(), before, after);
+    }
+
+    public static EmployeeChangedEvent deleted(Long id, EmployeeResponse before) {
+        return new EmployeeChangedEvent(Type.DELETED, id, before, null);
+    }
+}
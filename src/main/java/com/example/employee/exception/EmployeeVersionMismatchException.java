@@ -0,0 +1,8 @@
+package com.example.employee.exception;
+
+public class EmployeeVersionMismatchException extends RuntimeException {
+    
+    public EmployeeVersionMismatchException(String message) {
+        super(message);
+    }
+}
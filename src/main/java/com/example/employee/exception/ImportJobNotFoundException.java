@@ -0,0 +1,8 @@
+package com.example.employee.exception;
+
+public class ImportJobNotFoundException extends RuntimeException {
+    
+    public ImportJobNotFoundException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,125 @@
+package com.example.employee.export;
+
+import com.example.employee.dto.EmployeeResponse;
+import com.example.employee.service.EmployeeService;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Writes the full employee roster as CSV or NDJSON while it is read from the database cursor, so
+ * memory use does not grow with the size of the table.
+ */
+@Component
+public class EmployeeExporter {
+
+    static final String CSV_HEADER = "id,firstName,lastName,email,department,position,createdAt,updatedAt,version";
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final EmployeeService employeeService;
+    private final ObjectWriter jsonWriter;
+
+    public EmployeeExporter(EmployeeService employeeService, ObjectMapper objectMapper) {
+        this.employeeService = employeeService;
+        // Serialize straight into the shared buffered writer; closing and flushing are left to export()
+        this.jsonWriter = objectMapper.writer()
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .without(JsonGenerator.Feature.FLUSH_PASSED_TO_STREAM)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    /**
+     * Writes every employee to {@code outputStream}, gzip-compressed when {@code gzip} is set.
+     * The stream itself is flushed but left open.
+     */
+    public void export(ExportFormat format, boolean gzip, OutputStream outputStream) throws IOException {
+        GZIPOutputStream compressed = gzip ? new GZIPOutputStream(outputStream, BUFFER_SIZE) : null;
+        Writer writer = new BufferedWriter(new OutputStreamWriter(
+                compressed != null ? compressed : outputStream, StandardCharsets.UTF_8), BUFFER_SIZE);
+
+        try {
+            if (format == ExportFormat.CSV) {
+                writer.write(CSV_HEADER);
+                writer.write('\n');
+                employeeService.streamAllEmployees(employee -> writeCsvRow(writer, employee));
+            } else {
+                employeeService.streamAllEmployees(employee -> writeJsonLine(writer, employee));
+            }
+        } catch (UncheckedIOException ex) {
+            throw ex.getCause();
+        }
+
+        writer.flush();
+        if (compressed != null) {
+            compressed.finish();
+        }
+        outputStream.flush();
+    }
+
+    private void writeCsvRow(Writer writer, EmployeeResponse employee) {
+        try {
+            writer.write(String.valueOf(employee.getId()));
+            writer.write(',');
+            writeCsvField(writer, employee.getFirstName());
+            writer.write(',');
+            writeCsvField(writer, employee.getLastName());
+            writer.write(',');
+            writeCsvField(writer, employee.getEmail());
+            writer.write(',');
+            writeCsvField(writer, employee.getDepartment());
+            writer.write(',');
+            writeCsvField(writer, employee.getPosition());
+            writer.write(',');
+            writeCsvField(writer, employee.getCreatedAt() == null ? null : employee.getCreatedAt().toString());
+            writer.write(',');
+            writeCsvField(writer, employee.getUpdatedAt() == null ? null : employee.getUpdatedAt().toString());
+            writer.write(',');
+            writeCsvField(writer, employee.getVersion() == null ? null : employee.getVersion().toString());
+            writer.write('\n');
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private void writeJsonLine(Writer writer, EmployeeResponse employee) {
+        try {
+            jsonWriter.writeValue(writer, employee);
+            writer.write('\n');
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /**
+     * Writes an RFC 4180 field, quoting it only when it contains a separator, quote or line break.
+     */
+    static void writeCsvField(Writer writer, String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        boolean quote = false;
+        for (int i = 0; i < value.length() && !quote; i++) {
+            char c = value.charAt(i);
+            quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!quote) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.employee.export;
+
+import org.springframework.http.MediaType;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Optional;
+
+public enum ExportFormat {
+
+    CSV(MediaType.parseMediaType("text/csv;charset=UTF-8"), "csv"),
+    NDJSON(MediaType.APPLICATION_NDJSON, "ndjson");
+
+    private final MediaType mediaType;
+    private final String extension;
+
+    ExportFormat(MediaType mediaType, String extension) {
+        this.mediaType = mediaType;
+        this.extension = extension;
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    public static Optional<ExportFormat> forParameter(String format) {
+        return Arrays.stream(values())
+                .filter(candidate -> candidate.extension.equals(format.toLowerCase(Locale.ROOT)))
+                .findFirst();
+    }
+}
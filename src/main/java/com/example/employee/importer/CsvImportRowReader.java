@@ -0,0 +1,148 @@
+package com.example.employee.importer;
+
+import com.example.employee.dto.CreateEmployeeRequest;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * RFC 4180 CSV with a header row naming the columns {@code firstName, lastName, email, department,
+ * position} in any order (case and underscores are ignored, so {@code first_name} works too). Quoted fields
+ * may contain commas, doubled quotes and line breaks; unknown columns are ignored and blank lines skipped.
+ */
+class CsvImportRowReader implements ImportRowReader {
+
+    private static final List<String> COLUMNS = List.of("firstname", "lastname", "email", "department", "position");
+
+    private final Reader reader;
+    private int[] columnIndex;
+    private long line = 1;
+    private boolean unterminatedQuote;
+
+    CsvImportRowReader(Reader reader) {
+        this.reader = reader;
+    }
+
+    @Override
+    public ImportRow next() throws IOException {
+        if (columnIndex == null) {
+            readHeader();
+        }
+
+        while (true) {
+            long recordLine = line;
+            List<String> fields = readRecord();
+            if (fields == null) {
+                return null;
+            }
+            if (fields.size() == 1 && fields.get(0).isBlank()) {
+                continue;
+            }
+            if (unterminatedQuote) {
+                return ImportRow.unreadable(recordLine, "Unterminated quoted field");
+            }
+            return toRow(recordLine, fields);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private void readHeader() throws IOException {
+        List<String> header = readRecord();
+        if (header == null) {
+            throw new IllegalArgumentException("CSV file is empty");
+        }
+
+        Map<String, Integer> positions = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            positions.putIfAbsent(normalize(header.get(i)), i);
+        }
+        List<String> missing = COLUMNS.stream().filter(column -> !positions.containsKey(column)).toList();
+        if (!missing.isEmpty()) {
+            throw new IllegalArgumentException("CSV header is missing columns " + missing);
+        }
+        columnIndex = COLUMNS.stream().mapToInt(positions::get).toArray();
+    }
+
+    private ImportRow toRow(long recordLine, List<String> fields) {
+        String[] values = new String[COLUMNS.size()];
+        for (int i = 0; i < values.length; i++) {
+            if (columnIndex[i] >= fields.size()) {
+                return ImportRow.unreadable(recordLine, "Expected at least " + (columnIndex[i] + 1)
+                        + " fields, found " + fields.size());
+            }
+            values[i] = fields.get(columnIndex[i]).trim();
+        }
+        return ImportRow.of(recordLine, CreateEmployeeRequest.builder()
+                .firstName(values[0])
+                .lastName(values[1])
+                .email(values[2])
+                .department(values[3])
+                .position(values[4])
+                .build());
+    }
+
+    /**
+     * Reads one record, which spans several lines when a quoted field contains line breaks.
+     */
+    private List<String> readRecord() throws IOException {
+        int c = reader.read();
+        if (c == -1) {
+            return null;
+        }
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        unterminatedQuote = false;
+        while (true) {
+            if (quoted) {
+                if (c == -1) {
+                    unterminatedQuote = true;
+                    fields.add(field.toString());
+                    return fields;
+                }
+                if (c == '"') {
+                    c = reader.read();
+                    if (c == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        continue;
+                    }
+                } else {
+                    if (c == '\n') {
+                        line++;
+                    }
+                    field.append((char) c);
+                }
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if (c == '\n' || c == -1) {
+                if (c == '\n') {
+                    line++;
+                }
+                fields.add(field.toString());
+                return fields;
+            } else if (c != '\r') {
+                field.append((char) c);
+            }
+            c = reader.read();
+        }
+    }
+
+    private static String normalize(String column) {
+        return column.replace("\uFEFF", "").replace("_", "").trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,238 @@
+package com.example.employee.importer;
+
+import com.example.employee.config.ImportProperties;
+import com.example.employee.dto.BatchCreateResponse;
+import com.example.employee.dto.BatchCreateResult;
+import com.example.employee.dto.CreateEmployeeRequest;
+import com.example.employee.dto.ImportJobStatus;
+import com.example.employee.exception.ImportJobNotFoundException;
+import com.example.employee.exception.ImportQueueFullException;
+import com.example.employee.service.EmployeeService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs bulk imports in the background.
+ * <p>
+ * The upload is streamed to a temporary file so the request can return immediately with a job to poll.
+ * A worker then reads the file record by record and hands every {@code employee.import.chunk-size} rows to
+ * {@link EmployeeService#createEmployees}, which validates them like single creates and inserts them in
+ * its own transaction. A chunk that fails is rolled back and counted; the import carries on with the next.
+ * <p>
+ * At most {@code employee.import.queue-capacity} imports wait for a worker; once the queue is full new
+ * imports are refused, so queued uploads cannot fill the disk.
+ */
+@Service
+@Slf4j
+public class EmployeeImportService {
+
+    private final EmployeeService employeeService;
+    private final ObjectMapper objectMapper;
+    private final ImportProperties properties;
+    private final ThreadPoolExecutor executor;
+    private final Map<String, ImportJob> jobs = new ConcurrentHashMap<>();
+    private final Queue<String> jobOrder = new ConcurrentLinkedQueue<>();
+
+    public EmployeeImportService(EmployeeService employeeService, ObjectMapper objectMapper, ImportProperties properties) {
+        this.employeeService = employeeService;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.executor = new ThreadPoolExecutor(properties.getConcurrency(), properties.getConcurrency(),
+                0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(properties.getQueueCapacity()),
+                new CustomizableThreadFactory("employee-import-"), new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    public ImportJobStatus startImport(InputStream body, ImportFormat format) {
+        // Refuse before reading the upload when the queue is already full; the submit below still decides
+        if (executor.getQueue().remainingCapacity() == 0) {
+            throw queueFull();
+        }
+        ImportJob job = new ImportJob(UUID.randomUUID().toString(), format, properties.getMaxReportedErrors());
+        Path file = spool(body, format);
+        // Registered first, so the job can be polled as soon as a worker may pick it up
+        register(job);
+        try {
+            executor.execute(new ImportTask(job, file));
+        } catch (RejectedExecutionException ex) {
+            unregister(job);
+            deleteQuietly(file);
+            throw queueFull();
+        }
+        log.info("Queued {} import {}", format, job.getId());
+        return job.toStatus();
+    }
+
+    public ImportJobStatus getStatus(String jobId) {
+        ImportJob job = jobs.get(jobId);
+        if (job == null) {
+            throw new ImportJobNotFoundException("Import job not found with ID: " + jobId);
+        }
+        return job.toStatus();
+    }
+
+    /**
+     * Interrupts running imports and fails the queued ones, deleting their uploads; running imports delete
+     * their own when they stop.
+     */
+    @PreDestroy
+    public void shutdown() {
+        for (Runnable queued : executor.shutdownNow()) {
+            if (queued instanceof ImportTask task) {
+                task.job.fail("Shut down before the import started");
+                deleteQuietly(task.file);
+            }
+        }
+    }
+
+    void run(ImportJob job, Path file) {
+        job.start();
+        int chunkSize = properties.getChunkSize();
+        try (ImportRowReader reader = open(job.getFormat(), file)) {
+            List<CreateEmployeeRequest> chunk = new ArrayList<>(chunkSize);
+            List<Long> lines = new ArrayList<>(chunkSize);
+            ImportRow row;
+            while ((row = reader.next()) != null) {
+                if (row.getRequest() == null) {
+                    job.rowFailed(row.getLine(), row.getError());
+                    continue;
+                }
+                chunk.add(row.getRequest());
+                lines.add(row.getLine());
+                if (chunk.size() == chunkSize) {
+                    importChunk(job, chunk, lines);
+                    chunk.clear();
+                    lines.clear();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                importChunk(job, chunk, lines);
+            }
+            job.complete();
+            log.info("Finished import {}: {}", job.getId(), job.toStatus());
+        } catch (Exception ex) {
+            log.error("Import {} failed: {}", job.getId(), ex.getMessage(), ex);
+            job.fail(ex.getMessage());
+        } finally {
+            deleteQuietly(file);
+        }
+    }
+
+    private void importChunk(ImportJob job, List<CreateEmployeeRequest> chunk, List<Long> lines) {
+        try {
+            BatchCreateResponse response = employeeService.createEmployees(chunk);
+            job.rowsImported(response.getCreated());
+            for (BatchCreateResult result : response.getResults()) {
+                if (result.getStatus() != BatchCreateResult.Status.CREATED) {
+                    String message = result.getErrors() == null
+                            ? result.getMessage()
+                            : result.getMessage() + ": " + result.getErrors();
+                    job.rowFailed(lines.get(result.getIndex()), message);
+                }
+            }
+            job.chunkCommitted();
+        } catch (RuntimeException ex) {
+            // Only this chunk's transaction rolled back; everything committed before it stays
+            log.warn("Import {} chunk starting at line {} failed: {}", job.getId(), lines.get(0), ex.getMessage());
+            job.chunkFailed();
+            for (Long line : lines) {
+                job.rowFailed(line, "Chunk rolled back: " + ex.getMessage());
+            }
+        }
+    }
+
+    private ImportRowReader open(ImportFormat format, Path file) throws IOException {
+        BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8);
+        return switch (format) {
+            case CSV -> new CsvImportRowReader(reader);
+            case NDJSON -> new NdjsonImportRowReader(reader, objectMapper);
+        };
+    }
+
+    private Path spool(InputStream body, ImportFormat format) {
+        Path file = null;
+        try {
+            file = Files.createTempFile("employee-import-", "." + format.name().toLowerCase());
+            Files.copy(body, file, StandardCopyOption.REPLACE_EXISTING);
+            return file;
+        } catch (IOException ex) {
+            deleteQuietly(file);
+            throw new UncheckedIOException("Could not store the uploaded file", ex);
+        }
+    }
+
+    private ImportQueueFullException queueFull() {
+        return new ImportQueueFullException("Too many imports are queued (limit " + properties.getQueueCapacity()
+                + "), try again later");
+    }
+
+    private void register(ImportJob job) {
+        jobs.put(job.getId(), job);
+        jobOrder.add(job.getId());
+        // Forget the oldest finished jobs beyond the retention limit; running ones are kept
+        while (jobOrder.size() > properties.getRetainedJobs()) {
+            String oldest = jobOrder.peek();
+            ImportJob oldestJob = oldest == null ? null : jobs.get(oldest);
+            if (oldestJob != null && !oldestJob.isFinished()) {
+                break;
+            }
+            if (jobOrder.remove(oldest)) {
+                jobs.remove(oldest);
+            }
+        }
+    }
+
+    private void unregister(ImportJob job) {
+        jobOrder.remove(job.getId());
+        jobs.remove(job.getId());
+    }
+
+    private static void deleteQuietly(Path file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException ex) {
+            log.warn("Could not delete import file {}: {}", file, ex.getMessage());
+        }
+    }
+
+    private final class ImportTask implements Runnable {
+
+        private final ImportJob job;
+        private final Path file;
+
+        private ImportTask(ImportJob job, Path file) {
+            this.job = job;
+            this.file = file;
+        }
+
+        @Override
+        public void run() {
+            EmployeeImportService.this.run(job, file);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.employee.importer;
+
+import org.springframework.http.MediaType;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+public enum ImportFormat {
+
+    CSV(MediaType.parseMediaType("text/csv")),
+    NDJSON(MediaType.APPLICATION_NDJSON);
+
+    private final MediaType mediaType;
+
+    ImportFormat(MediaType mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    public static Optional<ImportFormat> forContentType(MediaType contentType) {
+        return Arrays.stream(values())
+                .filter(format -> format.mediaType.isCompatibleWith(contentType))
+                .findFirst();
+    }
+}
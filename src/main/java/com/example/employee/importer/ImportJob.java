@@ -0,0 +1,126 @@
+package com.example.employee.importer;
+
+import com.example.employee.dto.ImportJobStatus;
+import com.example.employee.dto.ImportRowError;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Progress of one import. Written by the job's worker thread and read by status polls.
+ */
+class ImportJob {
+
+    private final String id;
+    private final ImportFormat format;
+    private final int maxReportedErrors;
+    private final LocalDateTime createdAt = LocalDateTime.now();
+
+    private final AtomicLong rowsImported = new AtomicLong();
+    private final AtomicLong rowsFailed = new AtomicLong();
+    private final AtomicLong chunksCommitted = new AtomicLong();
+    private final AtomicLong chunksFailed = new AtomicLong();
+    private final Queue<ImportRowError> errors = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger reportedErrors = new AtomicInteger();
+
+    private volatile ImportJobStatus.State state = ImportJobStatus.State.QUEUED;
+    private volatile long startedNanos;
+    private volatile long finishedNanos;
+    private volatile LocalDateTime startedAt;
+    private volatile LocalDateTime finishedAt;
+    private volatile String error;
+
+    ImportJob(String id, ImportFormat format, int maxReportedErrors) {
+        this.id = id;
+        this.format = format;
+        this.maxReportedErrors = maxReportedErrors;
+    }
+
+    String getId() {
+        return id;
+    }
+
+    ImportFormat getFormat() {
+        return format;
+    }
+
+    boolean isFinished() {
+        return state == ImportJobStatus.State.COMPLETED || state == ImportJobStatus.State.FAILED;
+    }
+
+    void start() {
+        startedAt = LocalDateTime.now();
+        startedNanos = System.nanoTime();
+        state = ImportJobStatus.State.RUNNING;
+    }
+
+    void rowsImported(int count) {
+        rowsImported.addAndGet(count);
+    }
+
+    void rowFailed(long line, String message) {
+        rowsFailed.incrementAndGet();
+        if (reportedErrors.incrementAndGet() <= maxReportedErrors) {
+            errors.add(new ImportRowError(line, message));
+        }
+    }
+
+    void chunkCommitted() {
+        chunksCommitted.incrementAndGet();
+    }
+
+    void chunkFailed() {
+        chunksFailed.incrementAndGet();
+    }
+
+    void complete() {
+        finish(ImportJobStatus.State.COMPLETED, null);
+    }
+
+    void fail(String reason) {
+        finish(ImportJobStatus.State.FAILED, reason);
+    }
+
+    private void finish(ImportJobStatus.State finalState, String reason) {
+        finishedNanos = System.nanoTime();
+        finishedAt = LocalDateTime.now();
+        error = reason;
+        state = finalState;
+    }
+
+    ImportJobStatus toStatus() {
+        ImportJobStatus.State current = state;
+        long imported = rowsImported.get();
+        long failed = rowsFailed.get();
+        return ImportJobStatus.builder()
+                .id(id)
+                .format(format.name())
+                .state(current)
+                .rowsProcessed(imported + failed)
+                .rowsImported(imported)
+                .rowsFailed(failed)
+                .chunksCommitted(chunksCommitted.get())
+                .chunksFailed(chunksFailed.get())
+                .rowsPerSecond(rowsPerSecond(current, imported + failed))
+                .createdAt(createdAt)
+                .startedAt(startedAt)
+                .finishedAt(finishedAt)
+                .error(error)
+                .errors(errors.isEmpty() ? null : List.copyOf(errors))
+                .build();
+    }
+
+    private double rowsPerSecond(ImportJobStatus.State current, long processed) {
+        if (current == ImportJobStatus.State.QUEUED) {
+            return 0.0;
+        }
+        long end = current == ImportJobStatus.State.RUNNING ? System.nanoTime() : finishedNanos;
+        double seconds = (end - startedNanos) / (double) Duration.ofSeconds(1).toNanos();
+        return seconds <= 0 ? 0.0 : processed / seconds;
+    }
+}
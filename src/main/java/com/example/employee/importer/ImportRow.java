@@ -0,0 +1,23 @@
+package com.example.employee.importer;
+
+import com.example.employee.dto.CreateEmployeeRequest;
+import lombok.Value;
+
+/**
+ * One parsed record of an import file: either a request to validate and insert, or why it could not be read.
+ */
+@Value
+class ImportRow {
+
+    long line;
+    CreateEmployeeRequest request;
+    String error;
+
+    static ImportRow of(long line, CreateEmployeeRequest request) {
+        return new ImportRow(line, request, null);
+    }
+
+    static ImportRow unreadable(long line, String error) {
+        return new ImportRow(line, null, error);
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.employee.importer;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Reads an import file one record at a time, so memory use does not grow with the file.
+ */
+interface ImportRowReader extends Closeable {
+
+    /**
+     * Returns the next record, or {@code null} at the end of the file.
+     */
+    ImportRow next() throws IOException;
+}
@@ -0,0 +1,46 @@
+package com.example.employee.importer;
+
+import com.example.employee.dto.CreateEmployeeRequest;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+
+/**
+ * One {@link CreateEmployeeRequest} JSON object per line; blank lines are skipped.
+ */
+class NdjsonImportRowReader implements ImportRowReader {
+
+    private final BufferedReader reader;
+    private final ObjectReader objectReader;
+    private long line;
+
+    NdjsonImportRowReader(BufferedReader reader, ObjectMapper objectMapper) {
+        this.reader = reader;
+        this.objectReader = objectMapper.readerFor(CreateEmployeeRequest.class);
+    }
+
+    @Override
+    public ImportRow next() throws IOException {
+        String text;
+        while ((text = reader.readLine()) != null) {
+            line++;
+            if (text.isBlank()) {
+                continue;
+            }
+            try {
+                return ImportRow.of(line, objectReader.readValue(text));
+            } catch (JsonProcessingException ex) {
+                return ImportRow.unreadable(line, "Malformed JSON: " + ex.getOriginalMessage());
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
@@ -0,0 +1,129 @@
+package com.example.employee.logging;
+
+import com.example.employee.config.AccessLogProperties;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.security.Principal;
+
+/**
+ * Writes one structured record per request: every write request to the {@code audit} logger, and a
+ * per-endpoint sample of all requests to the {@code access} logger. Both loggers are asynchronous, so
+ * the request thread only pays for building the record and publishing it to the ring buffer.
+ * <p>
+ * Records name the authenticated principal, as left on the request by {@link PrincipalCaptureFilter}, or
+ * {@code anonymous}.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class AccessLogFilter extends OncePerRequestFilter {
+
+    private static final Logger ACCESS = LogManager.getLogger("access");
+    private static final Logger AUDIT = LogManager.getLogger("audit");
+    private static final String UNMATCHED_ROUTE = "-";
+    private static final String ANONYMOUS = "anonymous";
+
+    private final boolean enabled;
+    private final AccessLogSampler sampler;
+
+    public AccessLogFilter(AccessLogProperties properties) {
+        this.enabled = properties.isEnabled();
+        this.sampler = new AccessLogSampler(properties);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        long start = System.nanoTime();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            if (request.isAsyncStarted()) {
+                // Reactive and streaming handlers finish later; record their final status and duration
+                request.getAsyncContext().addListener(new RecordOnComplete(start));
+            } else {
+                record(request, response, start);
+            }
+        }
+    }
+
+    private void record(HttpServletRequest request, HttpServletResponse response, long start) {
+        String method = request.getMethod();
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String route = pattern != null ? pattern.toString() : UNMATCHED_ROUTE;
+        boolean write = isWrite(method);
+        boolean sampled = sampler.shouldSample(method, route);
+
+        if (write || sampled) {
+            AccessRecord record = recordOf(request, response, route, start);
+            if (write) {
+                AUDIT.info(record);
+            }
+            if (sampled) {
+                ACCESS.info(record);
+            }
+        }
+    }
+
+    static AccessRecord recordOf(HttpServletRequest request, HttpServletResponse response, String route, long start) {
+        return new AccessRecord(request.getMethod(), route, request.getRequestURI(), response.getStatus(),
+                (System.nanoTime() - start) / 1_000, request.getRemoteAddr(), principalOf(request));
+    }
+
+    private static String principalOf(HttpServletRequest request) {
+        if (request.getAttribute(PrincipalCaptureFilter.PRINCIPAL_ATTRIBUTE) instanceof String name) {
+            return name;
+        }
+        Principal principal = request.getUserPrincipal();
+        return principal != null ? principal.getName() : ANONYMOUS;
+    }
+
+    private static boolean isWrite(String method) {
+        return !("GET".equals(method) || "HEAD".equals(method) || "OPTIONS".equals(method));
+    }
+
+    private final class RecordOnComplete implements AsyncListener {
+
+        private final long start;
+
+        private RecordOnComplete(long start) {
+            this.start = start;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            record((HttpServletRequest) event.getSuppliedRequest(), (HttpServletResponse) event.getSuppliedResponse(),
+                    start);
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            event.getAsyncContext().addListener(this);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.employee.logging;
+
+import com.example.employee.config.AccessLogProperties;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Decides per request whether it goes to the access log, using the configured per-endpoint rates.
+ * Lookups are keyed by route pattern, then method, so no key string is built per request.
+ */
+class AccessLogSampler {
+
+    private final double defaultRate;
+    private final Map<String, Map<String, Double>> ratesByRoute = new HashMap<>();
+
+    AccessLogSampler(AccessLogProperties properties) {
+        this.defaultRate = properties.getDefaultSampleRate();
+        properties.getSampleRates().forEach((endpoint, rate) -> {
+            String[] parts = endpoint.trim().split("\\s+", 2);
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Access log sample rate key must be '<METHOD> <route>': " + endpoint);
+            }
+            ratesByRoute.computeIfAbsent(parts[1], route -> new HashMap<>()).put(parts[0].toUpperCase(), rate);
+        });
+    }
+
+    boolean shouldSample(String method, String route) {
+        double rate = rateFor(method, route);
+        return rate >= 1.0 || (rate > 0.0 && ThreadLocalRandom.current().nextDouble() < rate);
+    }
+
+    double rateFor(String method, String route) {
+        Map<String, Double> ratesByMethod = ratesByRoute.get(route);
+        if (ratesByMethod == null) {
+            return defaultRate;
+        }
+        Double rate = ratesByMethod.get(method);
+        return rate != null ? rate : defaultRate;
+    }
+}
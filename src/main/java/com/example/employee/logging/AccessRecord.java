@@ -0,0 +1,65 @@
+package com.example.employee.logging;
+
+import org.apache.logging.log4j.message.AsynchronouslyFormattable;
+import org.apache.logging.log4j.message.Message;
+import org.apache.logging.log4j.util.StringBuilderFormattable;
+
+/**
+ * One request, rendered as {@code key=value} pairs. The record is immutable, so the async logger can
+ * hand it to its background thread as is and format it there, straight into the layout's buffer.
+ */
+@AsynchronouslyFormattable
+final class AccessRecord implements Message, StringBuilderFormattable {
+
+    private final String method;
+    private final String route;
+    private final String uri;
+    private final int status;
+    private final long durationMicros;
+    private final String client;
+    private final String principal;
+
+    AccessRecord(String method, String route, String uri, int status, long durationMicros, String client,
+                 String principal) {
+        this.method = method;
+        this.route = route;
+        this.uri = uri;
+        this.status = status;
+        this.durationMicros = durationMicros;
+        this.client = client;
+        this.principal = principal;
+    }
+
+    @Override
+    public void formatTo(StringBuilder buffer) {
+        buffer.append("method=").append(method)
+                .append(" route=").append(route)
+                .append(" uri=").append(uri)
+                .append(" status=").append(status)
+                .append(" duration_us=").append(durationMicros)
+                .append(" client=").append(client)
+                .append(" principal=").append(principal);
+    }
+
+    @Override
+    public String getFormattedMessage() {
+        StringBuilder buffer = new StringBuilder(128);
+        formatTo(buffer);
+        return buffer.toString();
+    }
+
+    @Override
+    public String getFormat() {
+        return "";
+    }
+
+    @Override
+    public Object[] getParameters() {
+        return null;
+    }
+
+    @Override
+    public Throwable getThrowable() {
+        return null;
+    }
+}
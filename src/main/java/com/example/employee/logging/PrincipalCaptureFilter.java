@@ -0,0 +1,34 @@
+package com.example.employee.logging;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Leaves the authenticated principal's name on the request for {@link AccessLogFilter}, which runs outside the
+ * security filter chain and so finds the security context already cleared when it writes its record.
+ * <p>
+ * Registered in the security filter chain after authentication rather than as a bean.
+ */
+public class PrincipalCaptureFilter extends OncePerRequestFilter {
+
+    static final String PRINCIPAL_ATTRIBUTE = PrincipalCaptureFilter.class.getName() + ".principal";
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.isAuthenticated()
+                && !(authentication instanceof AnonymousAuthenticationToken)) {
+            request.setAttribute(PRINCIPAL_ATTRIBUTE, authentication.getName());
+        }
+        filterChain.doFilter(request, response);
+    }
+}
@@ -7,11 +7,21 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "employees")
+@Table(name = "employees",
+        uniqueConstraints = @UniqueConstraint(name = "uk_employees_email", columnNames = "email"),
+        indexes = {
+                @Index(name = "idx_employees_department_position", columnList = "department, position"),
+                @Index(name = "idx_employees_position", columnList = "position"),
+                @Index(name = "idx_employees_last_name", columnList = "last_name"),
+                @Index(name = "idx_employees_first_name", columnList = "first_name"),
+                @Index(name = "idx_employees_created_at", columnList = "created_at")
+        })
+@DynamicUpdate
 @Data
 @Builder
 @NoArgsConstructor
@@ -19,7 +29,8 @@ import java.time.LocalDateTime;
 public class Employee {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "employees_seq")
+    @SequenceGenerator(name = "employees_seq", sequenceName = "employees_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -30,7 +41,7 @@ public class Employee {
     @NotBlank(message = "Last name is required")
     private String lastName;
 
-    @Column(unique = true, nullable = false)
+    @Column(nullable = false)
     @NotBlank(message = "Email is required")
     @Email(message = "Email should be valid")
     private String email;
@@ -49,6 +60,10 @@ public class Employee {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
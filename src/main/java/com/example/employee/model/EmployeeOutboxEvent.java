@@ -0,0 +1,61 @@
+package com.example.employee.model;
+
+import com.example.employee.event.EmployeeChangedEvent;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.LocalDateTime;
+
+/**
+ * A committed employee change waiting to be, or already, published on the change stream.
+ * <p>
+ * Rows are written in the transaction that made the change. {@code eventOffset} stays {@code null} until the
+ * dispatcher publishes the row; offsets are handed out in publish order, so unlike the ID they never go
+ * backwards when transactions commit out of order.
+ */
+@Entity
+@Table(name = "employee_outbox",
+        uniqueConstraints = @UniqueConstraint(name = "uk_employee_outbox_offset", columnNames = "event_offset"),
+        indexes = {
+                @Index(name = "idx_employee_outbox_pending", columnList = "event_offset, id"),
+                @Index(name = "idx_employee_outbox_published_at", columnList = "published_at")
+        })
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeeOutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "employee_outbox_seq")
+    @SequenceGenerator(name = "employee_outbox_seq", sequenceName = "employee_outbox_seq", allocationSize = 50)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.VARCHAR)
+    @Column(nullable = false, length = 16)
+    private EmployeeChangedEvent.Type type;
+
+    @Column(name = "employee_id", nullable = false)
+    private Long employeeId;
+
+    /**
+     * The change as JSON, sent to subscribers as-is.
+     */
+    @Column(nullable = false, length = 4000)
+    private String payload;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "event_offset")
+    private Long eventOffset;
+
+    @Column(name = "published_at")
+    private LocalDateTime publishedAt;
+}
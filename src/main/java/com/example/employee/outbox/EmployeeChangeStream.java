@@ -0,0 +1,189 @@
+package com.example.employee.outbox;
+
+import com.example.employee.config.OutboxProperties;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Fans published outbox changes out to Server-Sent Events subscribers.
+ * <p>
+ * Every subscriber has a cursor, the last offset it was sent. Changes after the cursor come from an in-memory
+ * window of the most recent changes when it reaches back far enough, otherwise from the outbox table, so
+ * live subscribers cost no queries while one resuming from an old offset catches up in batches. Delivery
+ * runs on a small pool, at most one task per subscriber at a time, so a slow client does not hold up the
+ * dispatcher or the others.
+ */
+@Component
+@Slf4j
+public class EmployeeChangeStream {
+
+    private final EmployeeOutbox outbox;
+    private final OutboxProperties properties;
+    private final ExecutorService delivery;
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final ConcurrentSkipListMap<Long, OutboxMessage> recent = new ConcurrentSkipListMap<>();
+    // Highest published offset, or -1 until known; while unknown every read goes to the table
+    private final AtomicLong latestOffset = new AtomicLong(-1);
+
+    public EmployeeChangeStream(EmployeeOutbox outbox, OutboxProperties properties) {
+        this.outbox = outbox;
+        this.properties = properties;
+        this.delivery = Executors.newFixedThreadPool(properties.getDeliveryThreads(),
+                new CustomizableThreadFactory("employee-changes-"));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        long latest = outbox.latestOffset();
+        latestOffset.accumulateAndGet(latest, Math::max);
+    }
+
+    /**
+     * Subscribes to changes after {@code after}, or to changes from now on when it is {@code null}.
+     */
+    public SseEmitter subscribe(Long after) {
+        long cursor = after != null ? after : outbox.latestOffset();
+        SseEmitter emitter = new SseEmitter(properties.getSubscriptionTimeout().toMillis());
+        Subscriber subscriber = new Subscriber(emitter, cursor);
+        subscribers.add(subscriber);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(ex -> subscribers.remove(subscriber));
+        subscriber.signal();
+        return emitter;
+    }
+
+    /**
+     * Called by the dispatcher with a batch of newly published changes, in offset order.
+     */
+    public void publish(List<OutboxMessage> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        for (OutboxMessage message : batch) {
+            recent.put(message.getOffset(), message);
+        }
+        latestOffset.accumulateAndGet(batch.get(batch.size() - 1).getOffset(), Math::max);
+        while (recent.size() > properties.getRecentChanges()) {
+            recent.pollFirstEntry();
+        }
+        subscribers.forEach(Subscriber::signal);
+    }
+
+    @Scheduled(fixedDelayString = "${employee.outbox.heartbeat-interval:PT15S}")
+    public void heartbeat() {
+        for (Subscriber subscriber : subscribers) {
+            try {
+                subscriber.emitter.send(SseEmitter.event().comment("keep-alive"));
+            } catch (IOException | IllegalStateException ex) {
+                subscriber.close();
+            }
+        }
+    }
+
+    public int subscriberCount() {
+        return subscribers.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+        delivery.shutdownNow();
+    }
+
+    /**
+     * Changes after {@code cursor} from the in-memory window, or {@code null} when the window does not reach
+     * back that far.
+     */
+    private List<OutboxMessage> recentAfter(long cursor) {
+        long latest = latestOffset.get();
+        if (latest >= 0 && cursor >= latest) {
+            return List.of();
+        }
+        Map.Entry<Long, OutboxMessage> oldest = recent.firstEntry();
+        if (latest < 0 || oldest == null || oldest.getKey() > cursor + 1) {
+            return null;
+        }
+        ConcurrentNavigableMap<Long, OutboxMessage> tail = recent.tailMap(cursor, false);
+        List<OutboxMessage> changes = new ArrayList<>(Math.min(tail.size(), properties.getBatchSize()));
+        for (OutboxMessage message : tail.values()) {
+            if (changes.size() == properties.getBatchSize()) {
+                break;
+            }
+            changes.add(message);
+        }
+        return changes;
+    }
+
+    private final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private long cursor;
+
+        private Subscriber(SseEmitter emitter, long cursor) {
+            this.emitter = emitter;
+            this.cursor = cursor;
+        }
+
+        private void signal() {
+            if (scheduled.compareAndSet(false, true)) {
+                delivery.execute(this::deliver);
+            }
+        }
+
+        private synchronized void deliver() {
+            // Cleared first: a signal arriving while we send schedules another pass rather than being lost
+            scheduled.set(false);
+            try {
+                while (subscribers.contains(this)) {
+                    List<OutboxMessage> changes = recentAfter(cursor);
+                    if (changes == null) {
+                        changes = outbox.readAfter(cursor, properties.getBatchSize());
+                    }
+                    if (changes.isEmpty()) {
+                        return;
+                    }
+                    for (OutboxMessage change : changes) {
+                        emitter.send(SseEmitter.event()
+                                .id(Long.toString(change.getOffset()))
+                                .name(change.getEvent())
+                                .data(change.getPayload(), MediaType.APPLICATION_JSON));
+                        cursor = change.getOffset();
+                    }
+                }
+            } catch (IOException | IllegalStateException ex) {
+                log.debug("Change stream subscriber disconnected: {}", ex.getMessage());
+                close();
+            } catch (RuntimeException ex) {
+                log.warn("Failed to deliver employee changes", ex);
+                close();
+            }
+        }
+
+        private void close() {
+            subscribers.remove(this);
+            emitter.completeWithError(new IOException("Subscriber closed"));
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.employee.outbox;
+
+import com.example.employee.dto.EmployeeChange;
+import com.example.employee.dto.EmployeeResponse;
+import com.example.employee.event.EmployeeChangedEvent;
+import com.example.employee.model.EmployeeOutboxEvent;
+import com.example.employee.repository.EmployeeOutboxRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Transactional outbox for employee changes.
+ * <p>
+ * Each change is written to {@code employee_outbox} just before the transaction that made it commits, so a
+ * change is recorded if and only if it commits. {@link OutboxDispatcher} later assigns offsets to the pending
+ * rows and hands them to the change stream.
+ */
+@Component
+@RequiredArgsConstructor
+public class EmployeeOutbox {
+
+    private final EmployeeOutboxRepository outboxRepository;
+    private final ObjectMapper objectMapper;
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void record(EmployeeChangedEvent event) {
+        outboxRepository.save(toRow(event));
+    }
+
+    /**
+     * The pending outbox row for {@code event}, for writers that insert it in their own transaction.
+     */
+    public EmployeeOutboxEvent toRow(EmployeeChangedEvent event) {
+        EmployeeResponse employee = event.getAfter() != null ? event.getAfter() : event.getBefore();
+        LocalDateTime now = LocalDateTime.now();
+        EmployeeChange change = new EmployeeChange(event.getType(), event.getId(), employee, now);
+        try {
+            return EmployeeOutboxEvent.builder()
+                    .type(event.getType())
+                    .employeeId(event.getId())
+                    .payload(objectMapper.writeValueAsString(change))
+                    .createdAt(now)
+                    .build();
+        } catch (JsonProcessingException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /**
+     * Publishes up to {@code limit} pending rows in commit-visible order by giving them the next offsets.
+     * Assumes a single dispatcher; a second one racing for the same offsets fails on the unique constraint.
+     */
+    @Transactional
+    public List<OutboxMessage> claimPending(int limit) {
+        List<EmployeeOutboxEvent> pending = outboxRepository.findUnpublished(Limit.of(limit));
+        if (pending.isEmpty()) {
+            return List.of();
+        }
+
+        long offset = outboxRepository.findLatestOffset();
+        LocalDateTime now = LocalDateTime.now();
+        for (EmployeeOutboxEvent row : pending) {
+            row.setEventOffset(++offset);
+            row.setPublishedAt(now);
+        }
+        return pending.stream().map(OutboxMessage::of).toList();
+    }
+
+    @Transactional(readOnly = true)
+    public List<OutboxMessage> readAfter(long offset, int limit) {
+        return outboxRepository.findPublishedAfter(offset, Limit.of(limit)).stream()
+                .map(OutboxMessage::of)
+                .toList();
+    }
+
+    @Transactional(readOnly = true)
+    public long latestOffset() {
+        return outboxRepository.findLatestOffset();
+    }
+
+    /**
+     * Deletes rows published before {@code before}, except the latest one: offsets continue from the highest
+     * still stored and must never go back to a value subscribers have already seen.
+     */
+    @Transactional
+    public int purgePublishedBefore(LocalDateTime before) {
+        return outboxRepository.deletePublishedBefore(before);
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.employee.outbox;
+
+import com.example.employee.config.OutboxProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Moves committed outbox rows onto the change stream in batches.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OutboxDispatcher {
+
+    private final EmployeeOutbox outbox;
+    private final EmployeeChangeStream changeStream;
+    private final OutboxProperties properties;
+
+    @Scheduled(fixedDelayString = "${employee.outbox.dispatch-interval:PT0.2S}")
+    public void dispatch() {
+        List<OutboxMessage> batch;
+        do {
+            // Offsets are committed before anyone sees them, so a subscriber never holds one that could roll back
+            batch = outbox.claimPending(properties.getBatchSize());
+            changeStream.publish(batch);
+        } while (batch.size() == properties.getBatchSize());
+    }
+
+    @Scheduled(fixedDelayString = "PT1H", initialDelayString = "PT1H")
+    public void purge() {
+        int purged = outbox.purgePublishedBefore(LocalDateTime.now().minus(properties.getRetention()));
+        if (purged > 0) {
+            log.info("Purged {} published outbox rows older than {}", purged, properties.getRetention());
+        }
+    }
+}
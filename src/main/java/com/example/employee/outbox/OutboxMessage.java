@@ -0,0 +1,21 @@
+package com.example.employee.outbox;
+
+import com.example.employee.model.EmployeeOutboxEvent;
+import lombok.Value;
+
+import java.util.Locale;
+
+/**
+ * A published change as sent to subscribers: the offset becomes the SSE event ID.
+ */
+@Value
+public class OutboxMessage {
+
+    long offset;
+    String event;
+    String payload;
+
+    static OutboxMessage of(EmployeeOutboxEvent row) {
+        return new OutboxMessage(row.getEventOffset(), row.getType().name().toLowerCase(Locale.ROOT), row.getPayload());
+    }
+}
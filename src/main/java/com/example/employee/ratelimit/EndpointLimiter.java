@@ -0,0 +1,118 @@
+package com.example.employee.ratelimit;
+
+import com.example.employee.config.RateLimitProperties;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Limits for one {@code "<METHOD> <path pattern>"} entry: a token bucket per client and a bulkhead shared by
+ * all clients.
+ * <p>
+ * At most {@code maxTrackedClients} buckets are kept, in independently locked LRU segments. A new client
+ * replaces the least recently seen one only once that bucket has fully refilled, since a full bucket behaves
+ * like a new one. While every tracked bucket is still in use, further clients share a single overflow bucket,
+ * so a flood of new clients neither grows the map nor escapes the limit.
+ */
+final class EndpointLimiter {
+
+    private static final int MAX_SEGMENTS = 16;
+
+    private final String name;
+    private final String method;
+    private final PathPattern pattern;
+    private final Double requestsPerSecond;
+    private final int burst;
+    private final Semaphore bulkhead;
+    private final Segment[] segments;
+    private final TokenBucket overflow;
+
+    EndpointLimiter(String name, RateLimitProperties.EndpointLimit limit, int maxTrackedClients) {
+        String[] parts = name.trim().split("\\s+", 2);
+        if (parts.length != 2) {
+            throw new IllegalArgumentException("Rate limit key must be \"<METHOD> <path pattern>\": " + name);
+        }
+        this.name = name;
+        this.method = parts[0].toUpperCase(Locale.ROOT);
+        this.pattern = PathPatternParser.defaultInstance.parse(parts[1]);
+        this.requestsPerSecond = limit.getRequestsPerSecond();
+        this.burst = limit.getBurst() != null ? limit.getBurst()
+                : requestsPerSecond != null ? (int) Math.max(1, Math.ceil(requestsPerSecond)) : 1;
+        this.bulkhead = limit.getMaxConcurrent() != null ? new Semaphore(limit.getMaxConcurrent()) : null;
+        int segmentCount = Integer.highestOneBit(Math.max(1, Math.min(MAX_SEGMENTS, maxTrackedClients)));
+        this.segments = new Segment[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            segments[i] = new Segment(Math.max(1, maxTrackedClients / segmentCount));
+        }
+        this.overflow = requestsPerSecond != null ? new TokenBucket(requestsPerSecond, burst, System.nanoTime()) : null;
+    }
+
+    String name() {
+        return name;
+    }
+
+    boolean matches(String requestMethod, PathContainer path) {
+        return method.equals(requestMethod) && pattern.matches(path);
+    }
+
+    /**
+     * Returns 0 when {@code client} may proceed, otherwise the nanoseconds until its next token.
+     */
+    long tryAcquireToken(String client, long now) {
+        if (requestsPerSecond == null) {
+            return 0;
+        }
+        int hash = client.hashCode();
+        Segment segment = segments[(hash ^ (hash >>> 16)) & (segments.length - 1)];
+        return segment.bucketFor(client, now).tryAcquire(now);
+    }
+
+    boolean tryEnter() {
+        return bulkhead == null || bulkhead.tryAcquire();
+    }
+
+    void exit() {
+        if (bulkhead != null) {
+            bulkhead.release();
+        }
+    }
+
+    private final class Segment {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private final LinkedHashMap<String, TokenBucket> buckets = new LinkedHashMap<>(16, 0.75f, true);
+        private final int capacity;
+
+        private Segment(int capacity) {
+            this.capacity = capacity;
+        }
+
+        private TokenBucket bucketFor(String client, long now) {
+            lock.lock();
+            try {
+                TokenBucket bucket = buckets.get(client);
+                if (bucket != null) {
+                    return bucket;
+                }
+                if (buckets.size() >= capacity) {
+                    Iterator<TokenBucket> eldest = buckets.values().iterator();
+                    if (!eldest.next().isIdle(now)) {
+                        return overflow;
+                    }
+                    eldest.remove();
+                }
+                bucket = new TokenBucket(requestsPerSecond, burst, now);
+                buckets.put(client, bucket);
+                return bucket;
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package com.example.employee.ratelimit;
+
+import com.example.employee.config.RateLimitProperties;
+import com.example.employee.exception.GlobalExceptionHandler.ErrorResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.security.Principal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Applies the per-endpoint limits from {@link RateLimitProperties}: a token bucket per client and a bulkhead
+ * capping the endpoint's concurrent requests. Requests over either limit get 429 with {@code Retry-After}
+ * before they reach a controller or take a database connection.
+ * <p>
+ * A client is the authenticated principal, or otherwise the remote address. Nothing the caller sends picks its
+ * bucket: behind a reverse proxy the remote address is the one the servlet container resolved from
+ * {@code X-Forwarded-For}, which it only trusts from the configured internal proxies.
+ * <p>
+ * Registered in the security filter chain rather than as a bean, so it runs exactly once per request.
+ * Admission is a CAS on the client's bucket and a non-blocking semaphore acquire; nothing waits.
+ */
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final boolean enabled;
+    private final List<EndpointLimiter> limiters;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    public RateLimitFilter(RateLimitProperties properties, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.limiters = properties.getEndpoints().entrySet().stream()
+                .map(entry -> new EndpointLimiter(entry.getKey(), entry.getValue(), properties.getMaxTrackedClients()))
+                .toList();
+        this.enabled = properties.isEnabled() && !limiters.isEmpty();
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        EndpointLimiter limiter = match(request);
+        if (limiter == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        long waitNanos = limiter.tryAcquireToken(clientOf(request), System.nanoTime());
+        if (waitNanos > 0) {
+            reject(response, limiter, "rate", Math.max(1, (TimeUnit.NANOSECONDS.toMillis(waitNanos) + 999) / 1000),
+                    "Rate limit exceeded");
+            return;
+        }
+        if (!limiter.tryEnter()) {
+            reject(response, limiter, "concurrency", 1, "Too many concurrent requests");
+            return;
+        }
+
+        boolean released = false;
+        try {
+            filterChain.doFilter(request, response);
+            if (request.isAsyncStarted()) {
+                // Streaming responses hold their slot until the async request finishes
+                request.getAsyncContext().addListener(new BulkheadRelease(limiter));
+                released = true;
+            }
+        } finally {
+            if (!released) {
+                limiter.exit();
+            }
+        }
+    }
+
+    private EndpointLimiter match(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        PathContainer container = PathContainer.parsePath(path);
+        String method = request.getMethod();
+        for (EndpointLimiter limiter : limiters) {
+            if (limiter.matches(method, container)) {
+                return limiter;
+            }
+        }
+        return null;
+    }
+
+    private static String clientOf(HttpServletRequest request) {
+        // Spring Security's request wrapper reports no principal for anonymous requests
+        Principal principal = request.getUserPrincipal();
+        return principal != null ? "principal:" + principal.getName() : "address:" + request.getRemoteAddr();
+    }
+
+    private void reject(HttpServletResponse response, EndpointLimiter limiter, String reason, long retryAfterSeconds,
+                        String message) throws IOException {
+        meterRegistry.counter("employee.rate_limit.rejected", "endpoint", limiter.name(), "reason", reason).increment();
+
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(),
+                new ErrorResponse(HttpStatus.TOO_MANY_REQUESTS.value(), message, LocalDateTime.now()));
+    }
+
+    private static final class BulkheadRelease implements AsyncListener {
+
+        private final EndpointLimiter limiter;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private BulkheadRelease(EndpointLimiter limiter) {
+            this.limiter = limiter;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            event.getAsyncContext().addListener(this);
+        }
+
+        private void release() {
+            if (released.compareAndSet(false, true)) {
+                limiter.exit();
+            }
+        }
+    }
+}
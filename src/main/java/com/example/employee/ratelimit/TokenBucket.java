@@ -0,0 +1,45 @@
+package com.example.employee.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token bucket in its GCRA form: the whole state is one "theoretical arrival time", advanced with a
+ * CAS by one emission interval per admitted request. A request is admitted while that time is at most
+ * {@code burst - 1} intervals ahead of now.
+ */
+final class TokenBucket {
+
+    private final AtomicLong theoreticalArrival;
+    private final long intervalNanos;
+    private final long toleranceNanos;
+
+    TokenBucket(double requestsPerSecond, int burst, long now) {
+        this.intervalNanos = Math.max(1, (long) (1_000_000_000L / requestsPerSecond));
+        this.toleranceNanos = intervalNanos * (Math.max(1, burst) - 1);
+        this.theoreticalArrival = new AtomicLong(now);
+    }
+
+    /**
+     * Takes a token, returning 0 when admitted or otherwise the nanoseconds until one is available.
+     */
+    long tryAcquire(long now) {
+        while (true) {
+            long current = theoreticalArrival.get();
+            long arrival = current - now < 0 ? now : current;
+            long wait = arrival - now - toleranceNanos;
+            if (wait > 0) {
+                return wait;
+            }
+            if (theoreticalArrival.compareAndSet(current, arrival + intervalNanos)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * Whether the bucket is full again, i.e. indistinguishable from a new one.
+     */
+    boolean isIdle(long now) {
+        return theoreticalArrival.get() - now <= 0;
+    }
+}
@@ -0,0 +1,194 @@
+package com.example.employee.reactive;
+
+import com.example.employee.config.ReactiveApiProperties;
+import com.example.employee.dto.CreateEmployeeRequest;
+import com.example.employee.dto.EmployeeResponse;
+import com.example.employee.dto.UpdateEmployeeRequest;
+import com.example.employee.model.EmployeeOutboxEvent;
+import io.r2dbc.h2.H2ConnectionConfiguration;
+import io.r2dbc.h2.H2ConnectionFactory;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.Readable;
+import jakarta.annotation.PreDestroy;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.r2dbc.connection.R2dbcTransactionManager;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+/**
+ * R2DBC access to the {@code employees} table for the {@code /api/v2} endpoints.
+ * <p>
+ * The repository owns a connection pool of its own, opened against the database of the JDBC datasource, so
+ * both APIs see each other's writes. It is deliberately not a {@link ConnectionFactory} bean: that would
+ * bring in a reactive transaction manager next to the JPA one. New IDs are drawn from {@code employees_seq}
+ * one value at a time; with pooled-lo, each value Hibernate draws is the start of its block, so the two never
+ * hand out the same ID.
+ */
+@Repository
+public class ReactiveEmployeeRepository {
+
+    private static final String COLUMNS =
+            "id, first_name, last_name, email, department, position, created_at, updated_at, version";
+    private static final String H2_JDBC_PREFIX = "jdbc:h2:";
+
+    private final ConnectionPool pool;
+    private final DatabaseClient client;
+    private final TransactionalOperator transactions;
+
+    public ReactiveEmployeeRepository(ReactiveApiProperties properties, DataSourceProperties dataSourceProperties) {
+        this.pool = new ConnectionPool(ConnectionPoolConfiguration.builder(connectionFactory(properties, dataSourceProperties))
+                .name("employee-r2dbc")
+                .initialSize(0)
+                .maxSize(properties.getMaxPoolSize())
+                .maxAcquireTime(properties.getAcquireTimeout())
+                .build());
+        this.client = DatabaseClient.create(pool);
+        this.transactions = TransactionalOperator.create(new R2dbcTransactionManager(pool));
+    }
+
+    /**
+     * Runs {@code work} in one database transaction. The result is emitted only after the commit.
+     */
+    public <T> Mono<T> inTransaction(Mono<T> work) {
+        return transactions.transactional(work);
+    }
+
+    public Mono<EmployeeResponse> findById(Long id) {
+        return client.sql("SELECT " + COLUMNS + " FROM employees WHERE id = :id")
+                .bind("id", id)
+                .map(ReactiveEmployeeRepository::toResponse)
+                .one();
+    }
+
+    public Mono<Long> findVersionById(Long id) {
+        return client.sql("SELECT version FROM employees WHERE id = :id")
+                .bind("id", id)
+                .map(row -> row.get("version", Long.class))
+                .one();
+    }
+
+    public Flux<EmployeeResponse> findAll() {
+        return client.sql("SELECT " + COLUMNS + " FROM employees ORDER BY id")
+                .map(ReactiveEmployeeRepository::toResponse)
+                .all();
+    }
+
+    /**
+     * Up to {@code limit} employees with an ID greater than {@code after}, in ID order.
+     */
+    public Flux<EmployeeResponse> findAfter(long after, int limit) {
+        return client.sql("SELECT " + COLUMNS + " FROM employees WHERE id > :after ORDER BY id LIMIT :limit")
+                .bind("after", after)
+                .bind("limit", limit)
+                .map(ReactiveEmployeeRepository::toResponse)
+                .all();
+    }
+
+    public Mono<Boolean> existsByEmail(String email) {
+        return client.sql("SELECT 1 FROM employees WHERE email = :email")
+                .bind("email", email)
+                .map(row -> Boolean.TRUE)
+                .first()
+                .defaultIfEmpty(Boolean.FALSE);
+    }
+
+    /**
+     * Inserts the employee at version 0 and returns the stored row, ID included, from the same statement.
+     */
+    public Mono<EmployeeResponse> insert(CreateEmployeeRequest request, LocalDateTime now) {
+        return client.sql("SELECT " + COLUMNS + " FROM FINAL TABLE (INSERT INTO employees (" + COLUMNS + ") "
+                        + "VALUES (NEXT VALUE FOR employees_seq, :firstName, :lastName, :email, :department, :position, "
+                        + ":now, :now, 0))")
+                .bind("firstName", request.getFirstName())
+                .bind("lastName", request.getLastName())
+                .bind("email", request.getEmail())
+                .bind("department", request.getDepartment())
+                .bind("position", request.getPosition())
+                .bind("now", now)
+                .map(ReactiveEmployeeRepository::toResponse)
+                .one();
+    }
+
+    /**
+     * Replaces the employee's fields if it is still at {@code expectedVersion}, incrementing the version.
+     * Emits the number of rows updated: 0 when the employee was changed or deleted in between.
+     */
+    public Mono<Long> update(Long id, long expectedVersion, UpdateEmployeeRequest request, LocalDateTime now) {
+        return client.sql("UPDATE employees SET first_name = :firstName, last_name = :lastName, email = :email, "
+                        + "department = :department, position = :position, updated_at = :now, version = version + 1 "
+                        + "WHERE id = :id AND version = :version")
+                .bind("firstName", request.getFirstName())
+                .bind("lastName", request.getLastName())
+                .bind("email", request.getEmail())
+                .bind("department", request.getDepartment())
+                .bind("position", request.getPosition())
+                .bind("now", now)
+                .bind("id", id)
+                .bind("version", expectedVersion)
+                .fetch()
+                .rowsUpdated();
+    }
+
+    /**
+     * Deletes the employee and returns the deleted row from the same statement, or completes empty.
+     */
+    public Mono<EmployeeResponse> deleteReturning(Long id) {
+        return client.sql("SELECT " + COLUMNS + " FROM OLD TABLE (DELETE FROM employees WHERE id = :id)")
+                .bind("id", id)
+                .map(ReactiveEmployeeRepository::toResponse)
+                .one();
+    }
+
+    public Mono<Void> insertOutbox(EmployeeOutboxEvent row) {
+        return client.sql("INSERT INTO employee_outbox (id, type, employee_id, payload, created_at) "
+                        + "VALUES (NEXT VALUE FOR employee_outbox_seq, :type, :employeeId, :payload, :createdAt)")
+                .bind("type", row.getType().name())
+                .bind("employeeId", row.getEmployeeId())
+                .bind("payload", row.getPayload())
+                .bind("createdAt", row.getCreatedAt())
+                .then();
+    }
+
+    @PreDestroy
+    public void close() {
+        pool.dispose();
+    }
+
+    private static ConnectionFactory connectionFactory(ReactiveApiProperties properties,
+                                                       DataSourceProperties dataSourceProperties) {
+        if (properties.getUrl() != null) {
+            return ConnectionFactories.get(properties.getUrl());
+        }
+        String jdbcUrl = dataSourceProperties.determineUrl();
+        if (jdbcUrl == null || !jdbcUrl.startsWith(H2_JDBC_PREFIX)) {
+            throw new IllegalStateException("Cannot derive an R2DBC URL from " + jdbcUrl + "; set employee.v2.url");
+        }
+        return new H2ConnectionFactory(H2ConnectionConfiguration.builder()
+                .url(jdbcUrl.substring(H2_JDBC_PREFIX.length()))
+                .username(dataSourceProperties.determineUsername())
+                .password(dataSourceProperties.determinePassword())
+                .build());
+    }
+
+    private static EmployeeResponse toResponse(Readable row) {
+        return EmployeeResponse.builder()
+                .id(row.get("id", Long.class))
+                .firstName(row.get("first_name", String.class))
+                .lastName(row.get("last_name", String.class))
+                .email(row.get("email", String.class))
+                .department(row.get("department", String.class))
+                .position(row.get("position", String.class))
+                .createdAt(row.get("created_at", LocalDateTime.class))
+                .updatedAt(row.get("updated_at", LocalDateTime.class))
+                .version(row.get("version", Long.class))
+                .build();
+    }
+}
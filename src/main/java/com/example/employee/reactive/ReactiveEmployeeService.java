@@ -0,0 +1,196 @@
+package com.example.employee.reactive;
+
+import com.example.employee.cache.EmployeeEmailIndex;
+import com.example.employee.config.ReactiveApiProperties;
+import com.example.employee.dto.CreateEmployeeRequest;
+import com.example.employee.dto.EmployeePage;
+import com.example.employee.dto.EmployeeResponse;
+import com.example.employee.dto.UpdateEmployeeRequest;
+import com.example.employee.event.EmployeeChangedEvent;
+import com.example.employee.exception.EmployeeAlreadyExistsException;
+import com.example.employee.exception.EmployeeNotFoundException;
+import com.example.employee.exception.EmployeeVersionMismatchException;
+import com.example.employee.outbox.EmployeeOutbox;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Non-blocking counterpart of {@link com.example.employee.service.EmployeeService} for the operations exposed
+ * under {@code /api/v2}, with the same validation rules and errors.
+ * <p>
+ * Each write runs in one R2DBC transaction together with its outbox row, since the outbox's
+ * before-commit listener only sees Spring-managed JDBC transactions. The {@link EmployeeChangedEvent} is
+ * published once that transaction has committed, so the response cache, email index and headcounts are
+ * kept current exactly as for v1 writes.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ReactiveEmployeeService {
+
+    private final ReactiveEmployeeRepository employeeRepository;
+    private final ReactiveApiProperties properties;
+    private final EmployeeEmailIndex emailIndex;
+    private final EmployeeOutbox outbox;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public Mono<EmployeeResponse> createEmployee(CreateEmployeeRequest request) {
+        log.debug("Creating new employee with email: {}", request.getEmail());
+
+        Mono<EmployeeChangedEvent> create = checkEmailAvailable(request.getEmail())
+                .then(Mono.defer(() -> employeeRepository.insert(request, LocalDateTime.now())))
+                .map(EmployeeChangedEvent::created)
+                .flatMap(this::record);
+
+        return employeeRepository.inTransaction(create)
+                .map(event -> {
+                    log.info("Successfully created employee with ID: {}", event.getId());
+                    return publish(event).getAfter();
+                });
+    }
+
+    public Mono<EmployeeResponse> getEmployeeById(Long id) {
+        log.debug("Fetching employee with ID: {}", id);
+
+        return employeeRepository.findById(id)
+                .switchIfEmpty(Mono.error(() -> notFound(id)));
+    }
+
+    /**
+     * Current version of the employee, read without loading the row, for revalidating conditional requests.
+     */
+    public Mono<Long> getEmployeeVersion(Long id) {
+        return employeeRepository.findVersionById(id)
+                .switchIfEmpty(Mono.error(() -> notFound(id)));
+    }
+
+    public Flux<EmployeeResponse> getAllEmployees() {
+        log.debug("Fetching all employees");
+
+        return employeeRepository.findAll();
+    }
+
+    public Mono<EmployeePage> getEmployeesPage(Long after, int limit) {
+        log.debug("Fetching up to {} employees after ID: {}", limit, after);
+
+        // Fetch one extra row to learn whether another page exists without a count query
+        return employeeRepository.findAfter(after == null ? 0L : after, limit + 1)
+                .collectList()
+                .map(employees -> {
+                    boolean hasMore = employees.size() > limit;
+                    List<EmployeeResponse> content = hasMore ? employees.subList(0, limit) : employees;
+                    Long nextCursor = hasMore ? content.get(content.size() - 1).getId() : null;
+                    return new EmployeePage(content, nextCursor);
+                });
+    }
+
+    /**
+     * Every employee in ID order, read from the database only as fast as the subscriber consumes it:
+     * rows are requested in batches of {@code employee.v2.stream-batch-size}.
+     */
+    public Flux<EmployeeResponse> streamAllEmployees() {
+        log.debug("Streaming all employees");
+
+        return employeeRepository.findAll()
+                .limitRate(properties.getStreamBatchSize());
+    }
+
+    /**
+     * Updates the employee if its version is still {@code expectedVersion} ({@code null} accepts any).
+     * The UPDATE is conditional on the version that was read, so a writer that commits in between is
+     * reported as a concurrent modification.
+     */
+    public Mono<EmployeeResponse> updateEmployee(Long id, UpdateEmployeeRequest request, Long expectedVersion) {
+        log.debug("Updating employee with ID: {}", id);
+
+        Mono<EmployeeChangedEvent> update = employeeRepository.findById(id)
+                .switchIfEmpty(Mono.error(() -> notFound(id)))
+                .flatMap(before -> {
+                    if (expectedVersion != null && !expectedVersion.equals(before.getVersion())) {
+                        return Mono.<EmployeeChangedEvent>error(new EmployeeVersionMismatchException(
+                                "Employee with ID " + id + " is at version " + before.getVersion()
+                                        + ", not " + expectedVersion));
+                    }
+
+                    Mono<Void> emailCheck = before.getEmail().equals(request.getEmail())
+                            ? Mono.empty()
+                            : checkEmailAvailable(request.getEmail());
+                    LocalDateTime now = LocalDateTime.now();
+                    EmployeeResponse after = EmployeeResponse.builder()
+                            .id(id)
+                            .firstName(request.getFirstName())
+                            .lastName(request.getLastName())
+                            .email(request.getEmail())
+                            .department(request.getDepartment())
+                            .position(request.getPosition())
+                            .createdAt(before.getCreatedAt())
+                            .updatedAt(now)
+                            .version(before.getVersion() + 1)
+                            .build();
+
+                    return emailCheck
+                            .then(employeeRepository.update(id, before.getVersion(), request, now))
+                            .flatMap(updated -> updated == 0
+                                    ? Mono.<EmployeeChangedEvent>error(new EmployeeVersionMismatchException(
+                                            "Employee with ID " + id + " was modified concurrently"))
+                                    : record(EmployeeChangedEvent.updated(before, after)));
+                });
+
+        return employeeRepository.inTransaction(update)
+                .map(event -> {
+                    log.info("Successfully updated employee with ID: {}", id);
+                    return publish(event).getAfter();
+                });
+    }
+
+    public Mono<Void> deleteEmployee(Long id) {
+        log.debug("Deleting employee with ID: {}", id);
+
+        // One statement: no row back means there was nothing to delete
+        Mono<EmployeeChangedEvent> delete = employeeRepository.deleteReturning(id)
+                .switchIfEmpty(Mono.error(() -> notFound(id)))
+                .flatMap(deleted -> record(EmployeeChangedEvent.deleted(id, deleted)));
+
+        return employeeRepository.inTransaction(delete)
+                .doOnNext(event -> {
+                    log.info("Successfully deleted employee with ID: {}", id);
+                    publish(event);
+                })
+                .then();
+    }
+
+    /**
+     * Fails with {@link EmployeeAlreadyExistsException} if the email is taken. The in-memory index answers
+     * most checks; only its possible hits cost a query. The unique constraint still catches racing writers.
+     */
+    private Mono<Void> checkEmailAvailable(String email) {
+        if (!emailIndex.mightContain(email)) {
+            return Mono.empty();
+        }
+        return employeeRepository.existsByEmail(email)
+                .filter(Boolean::booleanValue)
+                .flatMap(exists -> Mono.<Void>error(
+                        new EmployeeAlreadyExistsException("Employee with email " + email + " already exists")));
+    }
+
+    private Mono<EmployeeChangedEvent> record(EmployeeChangedEvent event) {
+        return Mono.defer(() -> employeeRepository.insertOutbox(outbox.toRow(event)))
+                .thenReturn(event);
+    }
+
+    private EmployeeChangedEvent publish(EmployeeChangedEvent event) {
+        eventPublisher.publishEvent(event);
+        return event;
+    }
+
+    private static EmployeeNotFoundException notFound(Long id) {
+        return new EmployeeNotFoundException("Employee not found with ID: " + id);
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.employee.repository;
+
+import com.example.employee.model.EmployeeOutboxEvent;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface EmployeeOutboxRepository extends JpaRepository<EmployeeOutboxEvent, Long> {
+
+    @Query("select e from EmployeeOutboxEvent e where e.eventOffset is null order by e.id")
+    List<EmployeeOutboxEvent> findUnpublished(Limit limit);
+
+    @Query("select e from EmployeeOutboxEvent e where e.eventOffset > :after order by e.eventOffset")
+    List<EmployeeOutboxEvent> findPublishedAfter(@Param("after") long after, Limit limit);
+
+    @Query("select coalesce(max(e.eventOffset), 0) from EmployeeOutboxEvent e")
+    long findLatestOffset();
+
+    /**
+     * Keeps the row with the highest offset whatever its age, since the next offset is counted on from it.
+     */
+    @Modifying
+    @Query("delete from EmployeeOutboxEvent e where e.publishedAt < :before "
+            + "and e.eventOffset < (select max(o.eventOffset) from EmployeeOutboxEvent o)")
+    int deletePublishedBefore(@Param("before") LocalDateTime before);
+}
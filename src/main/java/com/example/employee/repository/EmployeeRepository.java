@@ -1,15 +1,64 @@
 package com.example.employee.repository;
 
+import com.example.employee.dto.EmployeeResponse;
 import com.example.employee.model.Employee;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
-public interface EmployeeRepository extends JpaRepository<Employee, Long> {
-    
+public interface EmployeeRepository extends JpaRepository<Employee, Long>, JpaSpecificationExecutor<Employee>,
+        EmployeeRepositoryCustom {
+
+    /**
+     * Selects rows straight into {@link EmployeeResponse}, so reads skip entity hydration and the
+     * persistence-context snapshot. Keep in sync with {@link EmployeeRepositoryCustomImpl#responseSelection}.
+     */
+    String SELECT_RESPONSE = "select new com.example.employee.dto.EmployeeResponse("
+            + "e.id, e.firstName, e.lastName, e.email, e.department, e.position, e.createdAt, e.updatedAt, e.version) "
+            + "from Employee e";
+
     Optional<Employee> findByEmail(String email);
     
     boolean existsByEmail(String email);
+
+    @Query("select e.email from Employee e where e.email in :emails")
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("select e.email from Employee e")
+    Stream<String> streamAllEmails();
+
+    @Query("select e.version from Employee e where e.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    @Query("select e.department as name, count(e) as headcount from Employee e group by e.department")
+    List<Headcount> countByDepartment();
+
+    @Query("select e.position as name, count(e) as headcount from Employee e group by e.position")
+    List<Headcount> countByPosition();
+
+    @Query(SELECT_RESPONSE + " where e.id = :id")
+    Optional<EmployeeResponse> findResponseById(@Param("id") Long id);
+
+    @Query(SELECT_RESPONSE + " order by e.id")
+    List<EmployeeResponse> findAllResponses();
+
+    @Query(SELECT_RESPONSE + " where e.id > :after order by e.id")
+    List<EmployeeResponse> findResponsesAfter(@Param("after") Long after, Limit limit);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query(SELECT_RESPONSE + " order by e.id")
+    Stream<EmployeeResponse> streamAllResponses();
 }
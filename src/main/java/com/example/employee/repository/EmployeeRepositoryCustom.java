@@ -0,0 +1,53 @@
+package com.example.employee.repository;
+
+import com.example.employee.dto.EmployeeResponse;
+import com.example.employee.model.Employee;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+public interface EmployeeRepositoryCustom {
+
+    /**
+     * Like {@code findAll(spec, pageable)}, but selects straight into {@link EmployeeResponse}.
+     */
+    Page<EmployeeResponse> findResponses(Specification<Employee> spec, Pageable pageable);
+
+    /**
+     * Employees matching every word of {@code q} in the H2 full-text index over names, department and
+     * position (see {@code fulltext.sql}), narrowed by the optional department, position and name prefix.
+     * The match is part of the same query as the filters, paging and count, so every match is considered.
+     */
+    Page<EmployeeResponse> fullTextSearch(String q, String department, String position, String namePrefix,
+                                          Pageable pageable);
+
+    /**
+     * Writes only the given attributes, plus {@code updatedAt} and the version bump, in one UPDATE that
+     * matches only while the employee is still at {@code expectedVersion}. Returns the number of rows
+     * updated, 0 when the employee is gone or was changed in the meantime.
+     */
+    int updateChangedColumns(Long id, Long expectedVersion, Map<String, Object> changes, LocalDateTime updatedAt);
+
+    /**
+     * Deletes the employee in a single statement and returns the row as it was, or empty when there was none.
+     */
+    Optional<EmployeeResponse> deleteReturningById(Long id);
+
+    /**
+     * Deletes, in a single statement, every employee whose ID is in {@code ids} and that matches the
+     * optional department and position, and returns the deleted rows.
+     */
+    List<EmployeeResponse> deleteReturningByIds(Collection<Long> ids, String department, String position);
+
+    /**
+     * Deletes, in a single statement, every employee matching the given department and/or position, and
+     * returns the deleted rows. At least one of them must be non-null.
+     */
+    List<EmployeeResponse> deleteReturningByFilter(String department, String position);
+}
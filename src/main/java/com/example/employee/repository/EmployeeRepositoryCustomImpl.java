@@ -0,0 +1,247 @@
+package com.example.employee.repository;
+
+import com.example.employee.dto.EmployeeResponse;
+import com.example.employee.model.Employee;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CompoundSelection;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.query.NativeQuery;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.mapping.PropertyPath;
+import org.springframework.data.mapping.PropertyReferenceException;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.data.util.TypeInformation;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+@RequiredArgsConstructor
+class EmployeeRepositoryCustomImpl implements EmployeeRepositoryCustom {
+
+    private static final String RESPONSE_COLUMNS = "id, first_name, last_name, email, department, position, "
+            + "created_at, updated_at, version";
+
+    // H2 data change delta table: the DELETE and the read of the deleted rows are one statement
+    private static final String DELETE_RETURNING = "SELECT " + RESPONSE_COLUMNS
+            + " FROM OLD TABLE (DELETE FROM employees WHERE %s)";
+
+    // Limit 0 returns every match; the database evaluates the uncorrelated subquery once and probes the keys
+    private static final String FULL_TEXT_MATCH = "id IN (SELECT CAST(FT.KEYS[1] AS BIGINT) "
+            + "FROM FT_SEARCH_DATA(:q, 0, 0) FT WHERE FT.\"TABLE\" = 'EMPLOYEES')";
+
+    private static final Map<String, String> SORT_COLUMNS = Map.of(
+            "id", "id",
+            "firstName", "first_name",
+            "lastName", "last_name",
+            "email", "email",
+            "department", "department",
+            "position", "position",
+            "createdAt", "created_at",
+            "updatedAt", "updated_at",
+            "version", "version");
+
+    private final EntityManager entityManager;
+
+    @Override
+    public Page<EmployeeResponse> findResponses(Specification<Employee> spec, Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<EmployeeResponse> query = cb.createQuery(EmployeeResponse.class);
+        Root<Employee> root = query.from(Employee.class);
+        query.select(responseSelection(cb, root));
+
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        if (pageable.getSort().isSorted()) {
+            query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+        }
+
+        TypedQuery<EmployeeResponse> typedQuery = entityManager.createQuery(query);
+        if (pageable.isPaged()) {
+            typedQuery.setFirstResult((int) pageable.getOffset());
+            typedQuery.setMaxResults(pageable.getPageSize());
+        }
+        List<EmployeeResponse> content = typedQuery.getResultList();
+
+        // The count query only runs when the page alone cannot tell the total
+        return PageableExecutionUtils.getPage(content, pageable, () -> count(spec));
+    }
+
+    @Override
+    public Page<EmployeeResponse> fullTextSearch(String q, String department, String position, String namePrefix,
+                                                 Pageable pageable) {
+        Map<String, Object> parameters = new LinkedHashMap<>();
+        parameters.put("q", q);
+        String condition = filterCondition(FULL_TEXT_MATCH, department, position, parameters);
+        if (namePrefix != null) {
+            condition += " AND (first_name LIKE :name ESCAPE '\\' OR last_name LIKE :name ESCAPE '\\')";
+            parameters.put("name", EmployeeSpecifications.escapeLike(namePrefix) + "%");
+        }
+
+        String sql = "SELECT " + RESPONSE_COLUMNS + " FROM employees WHERE " + condition + orderBy(pageable.getSort());
+        List<EmployeeResponse> content = queryResponses(sql, parameters, pageable);
+
+        String countSql = "SELECT COUNT(*) FROM employees WHERE " + condition;
+        return PageableExecutionUtils.getPage(content, pageable, () -> count(countSql, parameters));
+    }
+
+    @Override
+    public int updateChangedColumns(Long id, Long expectedVersion, Map<String, Object> changes,
+                                    LocalDateTime updatedAt) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<Employee> update = cb.createCriteriaUpdate(Employee.class);
+        Root<Employee> root = update.from(Employee.class);
+
+        changes.forEach(update::set);
+        update.set(root.<LocalDateTime>get("updatedAt"), updatedAt);
+        update.set(root.<Long>get("version"), cb.sum(root.<Long>get("version"), 1L));
+        update.where(
+                cb.equal(root.get("id"), id),
+                cb.equal(root.get("version"), expectedVersion));
+
+        return entityManager.createQuery(update).executeUpdate();
+    }
+
+    @Override
+    public Optional<EmployeeResponse> deleteReturningById(Long id) {
+        return deleteReturning("id = :id", Map.of("id", id)).stream().findFirst();
+    }
+
+    @Override
+    public List<EmployeeResponse> deleteReturningByIds(Collection<Long> ids, String department, String position) {
+        Map<String, Object> parameters = new LinkedHashMap<>();
+        parameters.put("ids", ids);
+        return deleteReturning(filterCondition("id IN (:ids)", department, position, parameters), parameters);
+    }
+
+    @Override
+    public List<EmployeeResponse> deleteReturningByFilter(String department, String position) {
+        if (department == null && position == null) {
+            throw new IllegalArgumentException("A department or position is required");
+        }
+        Map<String, Object> parameters = new LinkedHashMap<>();
+        return deleteReturning(filterCondition(null, department, position, parameters), parameters);
+    }
+
+    private static String filterCondition(String base, String department, String position,
+                                          Map<String, Object> parameters) {
+        List<String> conditions = new ArrayList<>();
+        if (base != null) {
+            conditions.add(base);
+        }
+        if (department != null) {
+            conditions.add("department = :department");
+            parameters.put("department", department);
+        }
+        if (position != null) {
+            conditions.add("position = :position");
+            parameters.put("position", position);
+        }
+        return String.join(" AND ", conditions);
+    }
+
+    /**
+     * Maps the sort to columns, rejecting properties {@link Employee} does not have as the Criteria queries do.
+     */
+    private static String orderBy(Sort sort) {
+        List<String> orders = new ArrayList<>();
+        for (Sort.Order order : sort) {
+            PropertyPath path = PropertyPath.from(order.getProperty(), Employee.class);
+            String column = path.hasNext() ? null : SORT_COLUMNS.get(path.getSegment());
+            if (column == null) {
+                throw new PropertyReferenceException(order.getProperty(), TypeInformation.of(Employee.class), List.of());
+            }
+            orders.add((order.isIgnoreCase() ? "LOWER(" + column + ")" : column) + " " + order.getDirection());
+        }
+        return orders.isEmpty() ? "" : " ORDER BY " + String.join(", ", orders);
+    }
+
+    private List<EmployeeResponse> deleteReturning(String condition, Map<String, Object> parameters) {
+        return queryResponses(DELETE_RETURNING.formatted(condition), parameters, Pageable.unpaged());
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<EmployeeResponse> queryResponses(String sql, Map<String, Object> parameters, Pageable pageable) {
+        NativeQuery<Object[]> query = entityManager.createNativeQuery(sql).unwrap(NativeQuery.class);
+        query.addScalar("id", Long.class)
+                .addScalar("first_name", String.class)
+                .addScalar("last_name", String.class)
+                .addScalar("email", String.class)
+                .addScalar("department", String.class)
+                .addScalar("position", String.class)
+                .addScalar("created_at", LocalDateTime.class)
+                .addScalar("updated_at", LocalDateTime.class)
+                .addScalar("version", Long.class)
+                .addSynchronizedEntityClass(Employee.class);
+        bind(query, parameters);
+        if (pageable.isPaged()) {
+            query.setFirstResult((int) pageable.getOffset());
+            query.setMaxResults(pageable.getPageSize());
+        }
+
+        List<EmployeeResponse> responses = new ArrayList<>();
+        for (Object[] row : query.getResultList()) {
+            responses.add(new EmployeeResponse((Long) row[0], (String) row[1], (String) row[2], (String) row[3],
+                    (String) row[4], (String) row[5], (LocalDateTime) row[6], (LocalDateTime) row[7], (Long) row[8]));
+        }
+        return responses;
+    }
+
+    private long count(String sql, Map<String, Object> parameters) {
+        NativeQuery<?> query = entityManager.createNativeQuery(sql).unwrap(NativeQuery.class);
+        bind(query, parameters);
+        return ((Number) query.getSingleResult()).longValue();
+    }
+
+    private static void bind(NativeQuery<?> query, Map<String, Object> parameters) {
+        parameters.forEach((name, value) -> {
+            if (value instanceof Collection<?> values) {
+                query.setParameterList(name, values);
+            } else {
+                query.setParameter(name, value);
+            }
+        });
+    }
+
+    private long count(Specification<Employee> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Employee> root = query.from(Employee.class);
+        query.select(cb.count(root));
+
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    static CompoundSelection<EmployeeResponse> responseSelection(CriteriaBuilder cb, Root<Employee> root) {
+        return cb.construct(EmployeeResponse.class,
+                root.get("id"),
+                root.get("firstName"),
+                root.get("lastName"),
+                root.get("email"),
+                root.get("department"),
+                root.get("position"),
+                root.get("createdAt"),
+                root.get("updatedAt"),
+                root.get("version"));
+    }
+}
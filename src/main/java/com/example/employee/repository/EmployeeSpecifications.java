@@ -0,0 +1,35 @@
+package com.example.employee.repository;
+
+import com.example.employee.model.Employee;
+import org.springframework.data.jpa.domain.Specification;
+
+public final class EmployeeSpecifications {
+
+    private static final char LIKE_ESCAPE = '\\';
+
+    private EmployeeSpecifications() {
+    }
+
+    public static Specification<Employee> hasDepartment(String department) {
+        return (root, query, cb) -> cb.equal(root.get("department"), department);
+    }
+
+    public static Specification<Employee> hasPosition(String position) {
+        return (root, query, cb) -> cb.equal(root.get("position"), position);
+    }
+
+    /**
+     * Case-sensitive prefix match on first or last name, written as {@code LIKE 'prefix%'} so the name
+     * indexes stay usable.
+     */
+    public static Specification<Employee> nameStartsWith(String prefix) {
+        String pattern = escapeLike(prefix) + "%";
+        return (root, query, cb) -> cb.or(
+                cb.like(root.get("firstName"), pattern, LIKE_ESCAPE),
+                cb.like(root.get("lastName"), pattern, LIKE_ESCAPE));
+    }
+
+    static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.employee.repository;
+
+/**
+ * One row of a {@code GROUP BY} headcount: a department or position and how many employees hold it.
+ */
+public interface Headcount {
+
+    String getName();
+
+    Long getHeadcount();
+}
@@ -0,0 +1,102 @@
+package com.example.employee.service;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.example.employee.cache.SingleFlight;
+import com.example.employee.config.SingleFlightProperties;
+import com.example.employee.dto.EmployeePage;
+import com.example.employee.dto.EmployeeResponse;
+import com.example.employee.dto.EmployeeSearchCriteria;
+import com.example.employee.dto.PageResponse;
+import com.example.employee.event.EmployeeChangedEvent;
+
+/**
+ * Single-flight front for the read queries of {@link EmployeeService}: concurrent callers asking for the same
+ * employee, list, page or search share one database round trip and receive the same result instance.
+ * <p>
+ * It sits outside the service's transactions, so a waiting caller holds neither a transaction nor a
+ * connection. A committed change stops new callers from joining loads that started before it; callers that
+ * joined earlier may still get the earlier state, just as if they had run their own query at that moment.
+ */
+@Component
+public class EmployeeQueryCoalescer {
+
+    private static final String ALL = "all";
+
+    private final EmployeeService employeeService;
+    private final SingleFlight<Long, EmployeeResponse> employees;
+    private final SingleFlight<Long, EmployeeResponse> primaryEmployees;
+    private final SingleFlight<String, List<EmployeeResponse>> lists;
+    private final SingleFlight<PageQuery, EmployeePage> pages;
+    private final SingleFlight<SearchQuery, PageResponse<EmployeeResponse>> searches;
+
+    public EmployeeQueryCoalescer(EmployeeService employeeService, SingleFlightProperties properties) {
+        this.employeeService = employeeService;
+        this.employees = new SingleFlight<>(properties.isEnabled(), properties.getMaxWait());
+        this.primaryEmployees = new SingleFlight<>(properties.isEnabled(), properties.getMaxWait());
+        this.lists = new SingleFlight<>(properties.isEnabled(), properties.getMaxWait());
+        this.pages = new SingleFlight<>(properties.isEnabled(), properties.getMaxWait());
+        this.searches = new SingleFlight<>(properties.isEnabled(), properties.getMaxWait());
+    }
+
+    public EmployeeResponse getEmployeeById(Long id) {
+        return employees.load(id, () -> employeeService.getEmployeeById(id));
+    }
+
+    /**
+     * Kept apart from {@link #getEmployeeById}, so a caller that needs the primary never joins a replica read.
+     */
+    public EmployeeResponse getEmployeeByIdFromPrimary(Long id) {
+        return primaryEmployees.load(id, () -> employeeService.getEmployeeByIdFromPrimary(id));
+    }
+
+    public List<EmployeeResponse> getAllEmployees() {
+        return lists.load(ALL, employeeService::getAllEmployees);
+    }
+
+    public EmployeePage getEmployeesPage(Long after, int limit) {
+        return pages.load(new PageQuery(after, limit), () -> employeeService.getEmployeesPage(after, limit));
+    }
+
+    public PageResponse<EmployeeResponse> searchEmployees(EmployeeSearchCriteria criteria, Pageable pageable) {
+        // Keyed by a copy, so the key cannot change while the search is in flight
+        EmployeeSearchCriteria key = new EmployeeSearchCriteria(
+                criteria.getDepartment(), criteria.getPosition(), criteria.getName(), criteria.getQ());
+        return searches.load(new SearchQuery(key, pageable), () -> employeeService.searchEmployees(criteria, pageable));
+    }
+
+    /**
+     * Flights by the query they coalesce, for metrics.
+     */
+    public Map<String, SingleFlight<?, ?>> flights() {
+        Map<String, SingleFlight<?, ?>> flights = new LinkedHashMap<>();
+        flights.put("employee", employees);
+        flights.put("employee-primary", primaryEmployees);
+        flights.put("list", lists);
+        flights.put("page", pages);
+        flights.put("search", searches);
+        return flights;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        employees.forget(event.getId());
+        primaryEmployees.forget(event.getId());
+        // Any list, page or search may include the changed employee
+        lists.forgetAll();
+        pages.forgetAll();
+        searches.forgetAll();
+    }
+
+    private record PageQuery(Long after, int limit) {
+    }
+
+    private record SearchQuery(EmployeeSearchCriteria criteria, Pageable pageable) {
+    }
+}
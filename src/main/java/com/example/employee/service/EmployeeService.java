@@ -1,36 +1,77 @@
 package com.example.employee.service;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.example.employee.cache.EmployeeEmailIndex;
+import com.example.employee.config.BatchProperties;
+import com.example.employee.dto.BatchCreateResponse;
+import com.example.employee.dto.BatchCreateResult;
+import com.example.employee.dto.BulkDeleteRequest;
+import com.example.employee.dto.BulkDeleteResponse;
+import com.example.employee.dto.BulkDeleteResult;
 import com.example.employee.dto.CreateEmployeeRequest;
+import com.example.employee.dto.EmployeePage;
 import com.example.employee.dto.EmployeeResponse;
+import com.example.employee.dto.EmployeeSearchCriteria;
+import com.example.employee.dto.PageResponse;
+import com.example.employee.dto.PatchEmployeeRequest;
 import com.example.employee.dto.UpdateEmployeeRequest;
+import com.example.employee.event.EmployeeChangedEvent;
 import com.example.employee.exception.EmployeeAlreadyExistsException;
 import com.example.employee.exception.EmployeeNotFoundException;
+import com.example.employee.exception.EmployeeVersionMismatchException;
 import com.example.employee.model.Employee;
 import com.example.employee.repository.EmployeeRepository;
+import com.example.employee.repository.EmployeeSpecifications;
 
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
+@Timed(value = "employee.service", histogram = true)
 @Transactional
 public class EmployeeService {
 
+    private static final int EMAIL_LOOKUP_CHUNK_SIZE = 1000;
+    private static final int DELETE_CHUNK_SIZE = 1000;
+
     private final EmployeeRepository employeeRepository;
+    private final EntityManager entityManager;
+    private final Validator validator;
+    private final BatchProperties batchProperties;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EmployeeEmailIndex emailIndex;
 
     public EmployeeResponse createEmployee(CreateEmployeeRequest request) {
 
         // @manipurir Create issue #1 for accepting the lenght for firstName and lastName of max 50 characters
-        log.info("Creating new employee with email: {}", request.getEmail());
+        log.debug("Creating new employee with email: {}", request.getEmail());
         // @manipurir check the PR #123 for unique email constraint
-        if (employeeRepository.existsByEmail(request.getEmail())) {
+        if (emailIndex.exists(request.getEmail())) {
             throw new EmployeeAlreadyExistsException("Employee with email " + request.getEmail() + " already exists");
         }
 
@@ -44,66 +85,340 @@ public class EmployeeService {
 
         Employee savedEmployee = employeeRepository.save(employee);
         log.info("Successfully created employee with ID: {}", savedEmployee.getId());
-        
-        return mapToResponse(savedEmployee);
+
+        EmployeeResponse response = mapToResponse(savedEmployee);
+        eventPublisher.publishEvent(EmployeeChangedEvent.created(response));
+        return response;
+    }
+
+    /**
+     * Creates many employees in one transaction. Invalid items and emails that already exist (in the
+     * database or earlier in the same batch) are reported per item instead of failing the whole batch.
+     */
+    public BatchCreateResponse createEmployees(List<CreateEmployeeRequest> requests) {
+        log.debug("Creating {} employees in batch", requests.size());
+
+        Set<String> takenEmails = findExistingEmails(requests);
+        List<BatchCreateResult> results = new ArrayList<>(requests.size());
+        List<Employee> employees = new ArrayList<>();
+        List<BatchCreateResult> pending = new ArrayList<>();
+
+        for (int i = 0; i < requests.size(); i++) {
+            CreateEmployeeRequest request = requests.get(i);
+            BatchCreateResult result = BatchCreateResult.builder()
+                    .index(i)
+                    .email(request.getEmail())
+                    .build();
+            results.add(result);
+
+            Set<ConstraintViolation<CreateEmployeeRequest>> violations = validator.validate(request);
+            if (!violations.isEmpty()) {
+                Map<String, String> errors = new LinkedHashMap<>();
+                violations.forEach(violation ->
+                        errors.put(violation.getPropertyPath().toString(), violation.getMessage()));
+                result.setStatus(BatchCreateResult.Status.INVALID);
+                result.setMessage("Validation failed");
+                result.setErrors(errors);
+            } else if (!takenEmails.add(request.getEmail())) {
+                result.setStatus(BatchCreateResult.Status.CONFLICT);
+                result.setMessage("Employee with email " + request.getEmail() + " already exists");
+            } else {
+                employees.add(Employee.builder()
+                        .firstName(request.getFirstName())
+                        .lastName(request.getLastName())
+                        .email(request.getEmail())
+                        .department(request.getDepartment())
+                        .position(request.getPosition())
+                        .build());
+                pending.add(result);
+            }
+        }
+
+        insertInBatches(employees);
+        for (int i = 0; i < employees.size(); i++) {
+            pending.get(i).setStatus(BatchCreateResult.Status.CREATED);
+            pending.get(i).setId(employees.get(i).getId());
+            eventPublisher.publishEvent(EmployeeChangedEvent.created(mapToResponse(employees.get(i))));
+        }
+
+        int created = employees.size();
+        log.info("Successfully created {} of {} employees in batch", created, requests.size());
+
+        return new BatchCreateResponse(created, requests.size() - created, results);
     }
 
     @Transactional(readOnly = true)
     public EmployeeResponse getEmployeeById(Long id) {
-        log.info("Fetching employee with ID: {}", id);
+        log.debug("Fetching employee with ID: {}", id);
         
-        Employee employee = employeeRepository.findById(id)
+        return employeeRepository.findResponseById(id)
+                .orElseThrow(() -> new EmployeeNotFoundException("Employee not found with ID: " + id));
+    }
+
+    /**
+     * Like {@link #getEmployeeById}, but in a read-write transaction so it always reads the primary, never a
+     * lagging read replica. For results kept beyond the request, such as cached responses.
+     */
+    public EmployeeResponse getEmployeeByIdFromPrimary(Long id) {
+        log.debug("Fetching employee with ID {} from the primary", id);
+
+        return employeeRepository.findResponseById(id)
+                .orElseThrow(() -> new EmployeeNotFoundException("Employee not found with ID: " + id));
+    }
+
+    /**
+     * Current version of the employee, read without loading the row, for revalidating conditional requests.
+     */
+    @Transactional(readOnly = true)
+    public Long getEmployeeVersion(Long id) {
+        return employeeRepository.findVersionById(id)
                 .orElseThrow(() -> new EmployeeNotFoundException("Employee not found with ID: " + id));
-        
-        return mapToResponse(employee);
     }
 
     @Transactional(readOnly = true)
     public List<EmployeeResponse> getAllEmployees() {
-        log.info("Fetching all employees");
+        log.debug("Fetching all employees");
         
-        return employeeRepository.findAll()
-                .stream()
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
+        return employeeRepository.findAllResponses();
+    }
+
+    @Transactional(readOnly = true)
+    public EmployeePage getEmployeesPage(Long after, int limit) {
+        log.debug("Fetching up to {} employees after ID: {}", limit, after);
+
+        // Fetch one extra row to learn whether another page exists without a count query
+        List<EmployeeResponse> employees = employeeRepository.findResponsesAfter(
+                after == null ? 0L : after, Limit.of(limit + 1));
+        boolean hasMore = employees.size() > limit;
+
+        List<EmployeeResponse> content = hasMore ? employees.subList(0, limit) : employees;
+        Long nextCursor = hasMore ? content.get(content.size() - 1).getId() : null;
+
+        return new EmployeePage(content, nextCursor);
+    }
+
+    @Transactional(readOnly = true)
+    public PageResponse<EmployeeResponse> searchEmployees(EmployeeSearchCriteria criteria, Pageable pageable) {
+        log.debug("Searching employees with {}", criteria);
+
+        if (hasText(criteria.getQ())) {
+            // The full-text match runs inside the paged query and its count, so no match is left out
+            String department = hasText(criteria.getDepartment()) ? criteria.getDepartment() : null;
+            String position = hasText(criteria.getPosition()) ? criteria.getPosition() : null;
+            String name = hasText(criteria.getName()) ? criteria.getName() : null;
+            return PageResponse.of(employeeRepository.fullTextSearch(criteria.getQ(), department, position, name,
+                    pageable));
+        }
+
+        List<Specification<Employee>> filters = new ArrayList<>();
+        if (hasText(criteria.getDepartment())) {
+            filters.add(EmployeeSpecifications.hasDepartment(criteria.getDepartment()));
+        }
+        if (hasText(criteria.getPosition())) {
+            filters.add(EmployeeSpecifications.hasPosition(criteria.getPosition()));
+        }
+        if (hasText(criteria.getName())) {
+            filters.add(EmployeeSpecifications.nameStartsWith(criteria.getName()));
+        }
+
+        return PageResponse.of(employeeRepository.findResponses(Specification.allOf(filters), pageable));
+    }
+
+    @Transactional(readOnly = true)
+    public void streamAllEmployees(Consumer<EmployeeResponse> consumer) {
+        log.debug("Streaming all employees");
+
+        // Projected rows are never managed, so the persistence context stays empty however large the table
+        try (Stream<EmployeeResponse> employees = employeeRepository.streamAllResponses()) {
+            employees.forEach(consumer);
+        }
     }
 
     public EmployeeResponse updateEmployee(Long id, UpdateEmployeeRequest request) {
-        log.info("Updating employee with ID: {}", id);
+        return updateEmployee(id, request, null);
+    }
+
+    /**
+     * Updates the employee if its version is still {@code expectedVersion} ({@code null} accepts any).
+     * A writer that commits in between is caught by the {@code @Version} check on flush.
+     */
+    public EmployeeResponse updateEmployee(Long id, UpdateEmployeeRequest request, Long expectedVersion) {
+        log.debug("Updating employee with ID: {}", id);
         
         Employee employee = employeeRepository.findById(id)
                 .orElseThrow(() -> new EmployeeNotFoundException("Employee not found with ID: " + id));
 
+        if (expectedVersion != null && !expectedVersion.equals(employee.getVersion())) {
+            throw new EmployeeVersionMismatchException("Employee with ID " + id + " is at version "
+                    + employee.getVersion() + ", not " + expectedVersion);
+        }
+
         // Check if email is being changed and if new email already exists
         if (!employee.getEmail().equals(request.getEmail()) && 
-            employeeRepository.existsByEmail(request.getEmail())) {
+            emailIndex.exists(request.getEmail())) {
             throw new EmployeeAlreadyExistsException("Employee with email " + request.getEmail() + " already exists");
         }
 
+        EmployeeResponse before = mapToResponse(employee);
         employee.setFirstName(request.getFirstName());
         employee.setLastName(request.getLastName());
         employee.setEmail(request.getEmail());
         employee.setDepartment(request.getDepartment());
         employee.setPosition(request.getPosition());
 
-        Employee updatedEmployee = employeeRepository.save(employee);
+        // Flush now so the response carries the incremented version
+        Employee updatedEmployee = employeeRepository.saveAndFlush(employee);
         log.info("Successfully updated employee with ID: {}", updatedEmployee.getId());
-        
-        return mapToResponse(updatedEmployee);
+
+        EmployeeResponse response = mapToResponse(updatedEmployee);
+        eventPublisher.publishEvent(EmployeeChangedEvent.updated(before, response));
+        return response;
+    }
+
+    /**
+     * Applies a merge patch with a single conditional UPDATE of just the columns whose value changes.
+     * The current state is read as a projection, not a managed entity, and is the event's before-image;
+     * the email uniqueness check only runs when the email actually changes.
+     */
+    public EmployeeResponse patchEmployee(Long id, PatchEmployeeRequest patch, Long expectedVersion) {
+        log.debug("Patching employee with ID: {}", id);
+
+        EmployeeResponse before = employeeRepository.findResponseById(id)
+                .orElseThrow(() -> new EmployeeNotFoundException("Employee not found with ID: " + id));
+        if (expectedVersion != null && !expectedVersion.equals(before.getVersion())) {
+            throw new EmployeeVersionMismatchException("Employee with ID " + id + " is at version "
+                    + before.getVersion() + ", not " + expectedVersion);
+        }
+
+        Map<String, Object> changes = new LinkedHashMap<>();
+        putIfChanged(changes, "firstName", before.getFirstName(), patch.getFirstName());
+        putIfChanged(changes, "lastName", before.getLastName(), patch.getLastName());
+        putIfChanged(changes, "email", before.getEmail(), patch.getEmail());
+        putIfChanged(changes, "department", before.getDepartment(), patch.getDepartment());
+        putIfChanged(changes, "position", before.getPosition(), patch.getPosition());
+        if (changes.isEmpty()) {
+            return before;
+        }
+
+        if (changes.containsKey("email") && emailIndex.exists(patch.getEmail())) {
+            throw new EmployeeAlreadyExistsException("Employee with email " + patch.getEmail() + " already exists");
+        }
+
+        LocalDateTime updatedAt = LocalDateTime.now();
+        if (employeeRepository.updateChangedColumns(id, before.getVersion(), changes, updatedAt) == 0) {
+            throw new EmployeeVersionMismatchException("Employee with ID " + id + " was modified concurrently");
+        }
+        log.info("Successfully patched employee with ID: {} ({})", id, changes.keySet());
+
+        EmployeeResponse after = EmployeeResponse.builder()
+                .id(id)
+                .firstName(valueOrElse(patch.getFirstName(), before.getFirstName()))
+                .lastName(valueOrElse(patch.getLastName(), before.getLastName()))
+                .email(valueOrElse(patch.getEmail(), before.getEmail()))
+                .department(valueOrElse(patch.getDepartment(), before.getDepartment()))
+                .position(valueOrElse(patch.getPosition(), before.getPosition()))
+                .createdAt(before.getCreatedAt())
+                .updatedAt(updatedAt)
+                .version(before.getVersion() + 1)
+                .build();
+        eventPublisher.publishEvent(EmployeeChangedEvent.updated(before, after));
+        return after;
     }
 
     public void deleteEmployee(Long id) {
-        log.info("Deleting employee with ID: {}", id);
+        log.debug("Deleting employee with ID: {}", id);
         
-        if (!employeeRepository.existsById(id)) {
-            throw new EmployeeNotFoundException("Employee not found with ID: " + id);
-        }
+        // One statement: no row back means there was nothing to delete
+        EmployeeResponse deleted = employeeRepository.deleteReturningById(id)
+                .orElseThrow(() -> new EmployeeNotFoundException("Employee not found with ID: " + id));
 
-        employeeRepository.deleteById(id);
         log.info("Successfully deleted employee with ID: {}", id);
+        eventPublisher.publishEvent(EmployeeChangedEvent.deleted(id, deleted));
+    }
+
+    /**
+     * Deletes by ID list and/or department/position filter with set-based statements, one per
+     * {@value #DELETE_CHUNK_SIZE} IDs. With IDs, every requested ID is reported as deleted or not found
+     * (not found includes IDs that did not match the filter); with only a filter, the deleted IDs are listed.
+     */
+    public BulkDeleteResponse deleteEmployees(BulkDeleteRequest request) {
+        String department = hasText(request.getDepartment()) ? request.getDepartment() : null;
+        String position = hasText(request.getPosition()) ? request.getPosition() : null;
+        List<EmployeeResponse> deleted = new ArrayList<>();
+        List<BulkDeleteResult> results = new ArrayList<>();
+
+        if (request.getIds() == null || request.getIds().isEmpty()) {
+            log.debug("Deleting employees in department {} and position {}", department, position);
+            deleted.addAll(employeeRepository.deleteReturningByFilter(department, position));
+            deleted.forEach(employee -> results.add(new BulkDeleteResult(employee.getId(), BulkDeleteResult.Status.DELETED)));
+        } else {
+            List<Long> ids = new ArrayList<>(new LinkedHashSet<>(request.getIds()));
+            log.debug("Deleting {} employees by ID", ids.size());
+            for (int from = 0; from < ids.size(); from += DELETE_CHUNK_SIZE) {
+                List<Long> chunk = ids.subList(from, Math.min(from + DELETE_CHUNK_SIZE, ids.size()));
+                deleted.addAll(employeeRepository.deleteReturningByIds(chunk, department, position));
+            }
+            Set<Long> deletedIds = deleted.stream().map(EmployeeResponse::getId).collect(Collectors.toSet());
+            ids.forEach(id -> results.add(new BulkDeleteResult(id, deletedIds.contains(id)
+                    ? BulkDeleteResult.Status.DELETED
+                    : BulkDeleteResult.Status.NOT_FOUND)));
+        }
+
+        deleted.forEach(employee -> eventPublisher.publishEvent(EmployeeChangedEvent.deleted(employee.getId(), employee)));
+        log.info("Successfully deleted {} employees in bulk", deleted.size());
+
+        return new BulkDeleteResponse(deleted.size(), results.size() - deleted.size(), results);
+    }
+
+    private Set<String> findExistingEmails(List<CreateEmployeeRequest> requests) {
+        // Only emails the index cannot rule out need a database lookup
+        Set<String> emails = new HashSet<>();
+        requests.forEach(request -> {
+            if (request.getEmail() != null && emailIndex.mightContain(request.getEmail())) {
+                emails.add(request.getEmail());
+            }
+        });
+
+        Set<String> existing = new HashSet<>();
+        List<String> chunk = new ArrayList<>(EMAIL_LOOKUP_CHUNK_SIZE);
+        for (String email : emails) {
+            chunk.add(email);
+            if (chunk.size() == EMAIL_LOOKUP_CHUNK_SIZE) {
+                existing.addAll(employeeRepository.findExistingEmails(chunk));
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            existing.addAll(employeeRepository.findExistingEmails(chunk));
+        }
+        return existing;
+    }
+
+    private void insertInBatches(List<Employee> employees) {
+        int batchSize = batchProperties.getSize();
+        for (int from = 0; from < employees.size(); from += batchSize) {
+            employeeRepository.saveAll(employees.subList(from, Math.min(from + batchSize, employees.size())));
+            // Flush each chunk as one JDBC batch and drop it from the persistence context
+            entityManager.flush();
+            entityManager.clear();
+        }
+    }
+
+    private static void putIfChanged(Map<String, Object> changes, String attribute, Object current, Object patched) {
+        if (patched != null && !Objects.equals(current, patched)) {
+            changes.put(attribute, patched);
+        }
+    }
+
+    private static <T> T valueOrElse(T value, T fallback) {
+        return value != null ? value : fallback;
+    }
+
+    private static boolean hasText(String value) {
+        return value != null && !value.isBlank();
     }
 
-    private EmployeeResponse mapToResponse(Employee employee) {
+    static EmployeeResponse mapToResponse(Employee employee) {
         return EmployeeResponse.builder()
                 .id(employee.getId())
                 .firstName(employee.getFirstName())
@@ -113,6 +428,7 @@ public class EmployeeService {
                 .position(employee.getPosition())
                 .createdAt(employee.getCreatedAt())
                 .updatedAt(employee.getUpdatedAt())
+                .version(employee.getVersion())
                 .build();
     }
 }
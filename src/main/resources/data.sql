@@ -1,15 +1,15 @@
 -- Sample employees data
-INSERT INTO employees (first_name, last_name, email, department, position, created_at, updated_at)
-VALUES ('Alice', 'Johnson', 'alice.johnson@example.com', 'Engineering', 'Software Engineer', NOW(), NOW());
+INSERT INTO employees (id, first_name, last_name, email, department, position, created_at, updated_at, version)
+VALUES (NEXT VALUE FOR employees_seq, 'Alice', 'Johnson', 'alice.johnson@example.com', 'Engineering', 'Software Engineer', NOW(), NOW(), 0);
 
-INSERT INTO employees (first_name, last_name, email, department, position, created_at, updated_at)
-VALUES ('Bob', 'Smith', 'bob.smith@example.com', 'Marketing', 'Marketing Manager', NOW(), NOW());
+INSERT INTO employees (id, first_name, last_name, email, department, position, created_at, updated_at, version)
+VALUES (NEXT VALUE FOR employees_seq, 'Bob', 'Smith', 'bob.smith@example.com', 'Marketing', 'Marketing Manager', NOW(), NOW(), 0);
 
-INSERT INTO employees (first_name, last_name, email, department, position, created_at, updated_at)
-VALUES ('Charlie', 'Brown', 'charlie.brown@example.com', 'Sales', 'Sales Representative', NOW(), NOW());
+INSERT INTO employees (id, first_name, last_name, email, department, position, created_at, updated_at, version)
+VALUES (NEXT VALUE FOR employees_seq, 'Charlie', 'Brown', 'charlie.brown@example.com', 'Sales', 'Sales Representative', NOW(), NOW(), 0);
 
-INSERT INTO employees (first_name, last_name, email, department, position, created_at, updated_at)
-VALUES ('Diana', 'Williams', 'diana.williams@example.com', 'HR', 'HR Specialist', NOW(), NOW());
+INSERT INTO employees (id, first_name, last_name, email, department, position, created_at, updated_at, version)
+VALUES (NEXT VALUE FOR employees_seq, 'Diana', 'Williams', 'diana.williams@example.com', 'HR', 'HR Specialist', NOW(), NOW(), 0);
 
-INSERT INTO employees (first_name, last_name, email, department, position, created_at, updated_at)
-VALUES ('Eve', 'Davis', 'eve.davis@example.com', 'Finance', 'Financial Analyst', NOW(), NOW());
+INSERT INTO employees (id, first_name, last_name, email, department, position, created_at, updated_at, version)
+VALUES (NEXT VALUE FOR employees_seq, 'Eve', 'Davis', 'eve.davis@example.com', 'Finance', 'Financial Analyst', NOW(), NOW(), 0);
@@ -0,0 +1,16 @@
+-- Employees, as first mapped by com.example.employee.model.Employee.
+-- IDs come from a sequence in blocks of 50 (Hibernate pooled-lo), so raw SQL can also draw from it.
+CREATE SEQUENCE employees_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE employees (
+    id          BIGINT       NOT NULL PRIMARY KEY,
+    first_name  VARCHAR(255) NOT NULL,
+    last_name   VARCHAR(255) NOT NULL,
+    email       VARCHAR(255) NOT NULL,
+    department  VARCHAR(255) NOT NULL,
+    position    VARCHAR(255) NOT NULL,
+    created_at  TIMESTAMP(6) NOT NULL,
+    updated_at  TIMESTAMP(6),
+    version     BIGINT       NOT NULL,
+    CONSTRAINT uk_employees_email UNIQUE (email)
+);
@@ -0,0 +1,19 @@
+-- Transactional outbox behind the change stream, see com.example.employee.outbox.EmployeeOutbox.
+CREATE SEQUENCE employee_outbox_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE employee_outbox (
+    id            BIGINT        NOT NULL PRIMARY KEY,
+    type          VARCHAR(16)   NOT NULL,
+    employee_id   BIGINT        NOT NULL,
+    payload       VARCHAR(4000) NOT NULL,
+    created_at    TIMESTAMP(6)  NOT NULL,
+    event_offset  BIGINT,
+    published_at  TIMESTAMP(6),
+    CONSTRAINT uk_employee_outbox_offset UNIQUE (event_offset)
+);
+
+-- The dispatcher's pending rows (event_offset IS NULL ORDER BY id), read in id order straight from the index
+CREATE INDEX idx_employee_outbox_pending ON employee_outbox (event_offset, id);
+
+-- The retention purge (published_at < cutoff)
+CREATE INDEX idx_employee_outbox_published_at ON employee_outbox (published_at);
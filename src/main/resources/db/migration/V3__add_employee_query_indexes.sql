@@ -0,0 +1,14 @@
+-- Indexes for the employee query patterns; SchemaMigrationTest checks the plans use them.
+
+-- Search by department, or department and position. Also serves the department headcount GROUP BY.
+CREATE INDEX idx_employees_department_position ON employees (department, position);
+
+-- Search by position alone
+CREATE INDEX idx_employees_position ON employees (position);
+
+-- Name prefix search, written as LIKE 'prefix%' so these stay usable
+CREATE INDEX idx_employees_last_name ON employees (last_name);
+CREATE INDEX idx_employees_first_name ON employees (first_name);
+
+-- Recently created or changed employees, and search sorted by creation time
+CREATE INDEX idx_employees_created_at ON employees (created_at);
@@ -0,0 +1,6 @@
+-- H2 native full-text index backing GET /api/employees/search?q=...
+-- Dropping first keeps this repeatable when several application contexts share one in-memory database.
+CREATE ALIAS IF NOT EXISTS FT_INIT FOR 'org.h2.fulltext.FullText.init';
+CALL FT_INIT();
+CALL FT_DROP_INDEX('PUBLIC', 'EMPLOYEES');
+CALL FT_CREATE_INDEX('PUBLIC', 'EMPLOYEES', 'FIRST_NAME,LAST_NAME,DEPARTMENT,POSITION');
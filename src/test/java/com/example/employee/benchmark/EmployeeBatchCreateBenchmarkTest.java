@@ -0,0 +1,90 @@
+package com.example.employee.benchmark;
+
+import com.example.employee.dto.BatchCreateResponse;
+import com.example.employee.dto.CreateEmployeeRequest;
+import com.example.employee.repository.EmployeeRepository;
+import com.example.employee.service.EmployeeService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares {@link EmployeeService#createEmployees} with calling {@link EmployeeService#createEmployee}
+ * once per employee, as clients did before the batch endpoint existed.
+ * <p>
+ * Run with {@code ./gradlew benchmark -Dbenchmark.batch.rows=5000}.
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "logging.level.com.example.employee=WARN",
+        "logging.level.org.springframework.security=WARN"
+})
+class EmployeeBatchCreateBenchmarkTest {
+
+    private static final int ROWS = Integer.getInteger("benchmark.batch.rows", 2000);
+    private static final int ROUNDS = Integer.getInteger("benchmark.batch.rounds", 3);
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @BeforeEach
+    void setUp() {
+        employeeRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void batchCreate_ComparedWithSingleCreates() {
+        // Warm up both paths so the JIT and connection pool are primed
+        runSingleCreates(requests("warmup-single", 200));
+        runBatchCreate(requests("warmup-batch", 200));
+
+        for (int round = 1; round <= ROUNDS; round++) {
+            long singleNanos = runSingleCreates(requests("single-" + round, ROWS));
+            long batchNanos = runBatchCreate(requests("batch-" + round, ROWS));
+
+            System.out.printf("round %d: %d rows, single creates %d ms (%.0f rows/s), batch create %d ms (%.0f rows/s)%n",
+                    round, ROWS,
+                    singleNanos / 1_000_000, ROWS / (singleNanos / 1e9),
+                    batchNanos / 1_000_000, ROWS / (batchNanos / 1e9));
+        }
+    }
+
+    private long runSingleCreates(List<CreateEmployeeRequest> requests) {
+        long start = System.nanoTime();
+        requests.forEach(employeeService::createEmployee);
+        return System.nanoTime() - start;
+    }
+
+    private long runBatchCreate(List<CreateEmployeeRequest> requests) {
+        long start = System.nanoTime();
+        BatchCreateResponse response = employeeService.createEmployees(requests);
+        long elapsed = System.nanoTime() - start;
+        assertThat(response.getFailed()).isZero();
+        return elapsed;
+    }
+
+    private static List<CreateEmployeeRequest> requests(String prefix, int count) {
+        List<CreateEmployeeRequest> requests = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            requests.add(CreateEmployeeRequest.builder()
+                    .firstName("First" + i)
+                    .lastName("Last" + i)
+                    .email(prefix + "." + i + "@example.com")
+                    .department("Engineering")
+                    .position("Software Engineer")
+                    .build());
+        }
+        return requests;
+    }
+}
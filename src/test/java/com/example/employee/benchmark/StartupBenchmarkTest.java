@@ -0,0 +1,185 @@
+package com.example.employee.benchmark;
+
+import com.example.employee.EmployeeManagementApplication;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToLongFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Starts the application in its own JVM, as a new pod would, and measures the time from process start to the
+ * first successful {@code GET /api/employees} together with the memory in use at that point. Compares the
+ * default configuration with the {@code fast-startup} profile and, on Java 19+, that profile with a dynamically
+ * created CDS archive.
+ * <p>
+ * Run with {@code ./gradlew benchmark --tests '*StartupBenchmarkTest' -Dbenchmark.startup.runs=5}. The report is
+ * printed and written to {@code build/reports/startup/startup.json}.
+ */
+@Tag("benchmark")
+class StartupBenchmarkTest {
+
+    private static final int RUNS = Integer.getInteger("benchmark.startup.runs", 3);
+    private static final Duration TIMEOUT = Duration.ofSeconds(Long.getLong("benchmark.startup.timeout", 120L));
+    private static final Path WORK_DIR = Path.of("build", "startup");
+
+    private final HttpClient httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void timeToFirstRequest_DefaultComparedWithFastStartup() throws Exception {
+        Files.createDirectories(WORK_DIR);
+        List<Mode> modes = new ArrayList<>(List.of(
+                new Mode("default", null, List.of()),
+                new Mode("fast-startup", "fast-startup", List.of())));
+        if (Runtime.version().feature() >= 19) {
+            Path archive = WORK_DIR.resolve("fast-startup.jsa").toAbsolutePath();
+            Files.deleteIfExists(archive);
+            modes.add(new Mode("fast-startup+cds", "fast-startup",
+                    List.of("-XX:+AutoCreateSharedArchive", "-XX:SharedArchiveFile=" + archive)));
+        }
+
+        List<ModeReport> reports = new ArrayList<>();
+        for (Mode mode : modes) {
+            // Untimed first run: warms the OS file cache and, for CDS, records the archive
+            start(mode, 0);
+            List<StartupSample> samples = new ArrayList<>();
+            for (int run = 1; run <= RUNS; run++) {
+                samples.add(start(mode, run));
+            }
+            reports.add(ModeReport.of(mode.name(), samples));
+        }
+
+        print(reports);
+        Path path = Path.of("build", "reports", "startup", "startup.json");
+        Files.createDirectories(path.getParent());
+        objectMapper.copy().enable(SerializationFeature.INDENT_OUTPUT).writeValue(path.toFile(), reports);
+        assertThat(reports).allSatisfy(report -> assertThat(report.timeToFirstRequestMillis()).isPositive());
+    }
+
+    private StartupSample start(Mode mode, int run) throws Exception {
+        int port = freePort();
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(mode.jvmArgs());
+        command.addAll(List.of("-cp", System.getProperty("java.class.path"),
+                EmployeeManagementApplication.class.getName(),
+                "--server.port=" + port,
+                "--logging.level.com.example.employee=WARN"));
+        if (mode.profile() != null) {
+            command.add("--spring.profiles.active=" + mode.profile());
+        }
+
+        Path log = WORK_DIR.resolve(mode.name() + "-" + run + ".log");
+        long started = System.nanoTime();
+        Process process = new ProcessBuilder(command).redirectErrorStream(true).redirectOutput(log.toFile()).start();
+        try {
+            URI firstRequest = URI.create("http://localhost:" + port + "/api/employees?limit=1");
+            long deadline = started + TIMEOUT.toNanos();
+            while (status(firstRequest) != 200) {
+                assertThat(process.isAlive()).as("application exited, see %s", log).isTrue();
+                assertThat(System.nanoTime()).as("no successful request within %s, see %s", TIMEOUT, log)
+                        .isLessThan(deadline);
+                Thread.sleep(5);
+            }
+            long timeToFirstRequest = System.nanoTime() - started;
+
+            JsonNode memory = objectMapper.readTree(httpClient.send(
+                    HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/actuator/metrics/jvm.memory.used"))
+                            .build(),
+                    HttpResponse.BodyHandlers.ofString()).body());
+            long usedBytes = memory.path("measurements").path(0).path("value").asLong();
+            return new StartupSample(TimeUnit.NANOSECONDS.toMillis(timeToFirstRequest), usedBytes / (1024 * 1024),
+                    residentSetMegabytes(process.pid()));
+        } finally {
+            process.destroy();
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+            }
+        }
+    }
+
+    private int status(URI uri) throws InterruptedException {
+        try {
+            return httpClient.send(HttpRequest.newBuilder(uri).timeout(Duration.ofSeconds(5)).build(),
+                    HttpResponse.BodyHandlers.discarding()).statusCode();
+        } catch (IOException ex) {
+            // Not listening yet
+            return -1;
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    /**
+     * Resident set size from {@code /proc}, or -1 where that is not available.
+     */
+    private static long residentSetMegabytes(long pid) {
+        Path status = Path.of("/proc", Long.toString(pid), "status");
+        try {
+            for (String line : Files.readAllLines(status)) {
+                if (line.startsWith("VmRSS:")) {
+                    return Long.parseLong(line.replaceAll("\\D", "")) / 1024;
+                }
+            }
+        } catch (IOException | NumberFormatException ex) {
+            // Not Linux, or the process is already gone
+        }
+        return -1;
+    }
+
+    private static void print(List<ModeReport> reports) {
+        System.out.printf("%n== Startup: median of %d runs ==%n", RUNS);
+        System.out.printf("%-18s %22s %16s %10s%n", "mode", "first request ms", "jvm used MB", "rss MB");
+        for (ModeReport report : reports) {
+            System.out.printf("%-18s %22d %16d %10d%n", report.mode(), report.timeToFirstRequestMillis(),
+                    report.jvmMemoryUsedMegabytes(), report.residentSetMegabytes());
+        }
+    }
+
+    private record Mode(String name, String profile, List<String> jvmArgs) {
+    }
+
+    record StartupSample(long timeToFirstRequestMillis, long jvmMemoryUsedMegabytes, long residentSetMegabytes) {
+    }
+
+    record ModeReport(String mode, long timeToFirstRequestMillis, long jvmMemoryUsedMegabytes,
+                      long residentSetMegabytes, List<StartupSample> samples) {
+
+        static ModeReport of(String mode, List<StartupSample> samples) {
+            return new ModeReport(mode,
+                    median(samples, StartupSample::timeToFirstRequestMillis),
+                    median(samples, StartupSample::jvmMemoryUsedMegabytes),
+                    median(samples, StartupSample::residentSetMegabytes),
+                    samples);
+        }
+
+        private static long median(List<StartupSample> samples, ToLongFunction<StartupSample> value) {
+            return value.applyAsLong(samples.stream()
+                    .sorted(Comparator.comparingLong(value))
+                    .toList()
+                    .get(samples.size() / 2));
+        }
+    }
+}
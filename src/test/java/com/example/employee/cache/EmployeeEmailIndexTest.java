@@ -0,0 +1,66 @@
+package com.example.employee.cache;
+
+import com.example.employee.dto.EmployeeResponse;
+import com.example.employee.event.EmployeeChangedEvent;
+import com.example.employee.repository.EmployeeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class EmployeeEmailIndexTest {
+
+    @Mock
+    private EmployeeRepository employeeRepository;
+
+    @InjectMocks
+    private EmployeeEmailIndex emailIndex;
+
+    @BeforeEach
+    void setUp() {
+        when(employeeRepository.streamAllEmails()).thenReturn(Stream.of("john.doe@example.com"));
+        emailIndex.rebuild();
+    }
+
+    @Test
+    void exists_ShouldSkipDatabase_WhenEmailNotIndexed() {
+        assertThat(emailIndex.exists("jane.doe@example.com")).isFalse();
+        verify(employeeRepository, never()).existsByEmail("jane.doe@example.com");
+    }
+
+    @Test
+    void exists_ShouldConfirmWithDatabase_WhenEmailIndexed() {
+        when(employeeRepository.existsByEmail("john.doe@example.com")).thenReturn(true);
+
+        assertThat(emailIndex.exists("john.doe@example.com")).isTrue();
+    }
+
+    @Test
+    void exists_ShouldDropStaleEntry_WhenDatabaseDisagrees() {
+        when(employeeRepository.existsByEmail("john.doe@example.com")).thenReturn(false);
+
+        assertThat(emailIndex.exists("john.doe@example.com")).isFalse();
+        assertThat(emailIndex.mightContain("john.doe@example.com")).isFalse();
+    }
+
+    @Test
+    void onEmployeeChanged_ShouldTrackEmailChanges() {
+        EmployeeResponse before = EmployeeResponse.builder().id(1L).email("john.doe@example.com").build();
+        EmployeeResponse after = EmployeeResponse.builder().id(1L).email("johnny.doe@example.com").build();
+
+        emailIndex.onEmployeeChanged(EmployeeChangedEvent.updated(before, after));
+
+        assertThat(emailIndex.mightContain("john.doe@example.com")).isFalse();
+        assertThat(emailIndex.mightContain("johnny.doe@example.com")).isTrue();
+    }
+}
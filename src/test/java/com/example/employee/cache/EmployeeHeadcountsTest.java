@@ -0,0 +1,89 @@
+package com.example.employee.cache;
+
+import com.example.employee.dto.EmployeeResponse;
+import com.example.employee.dto.EmployeeStats;
+import com.example.employee.event.EmployeeChangedEvent;
+import com.example.employee.repository.EmployeeRepository;
+import com.example.employee.repository.Headcount;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class EmployeeHeadcountsTest {
+
+    @Mock
+    private EmployeeRepository employeeRepository;
+
+    @InjectMocks
+    private EmployeeHeadcounts headcounts;
+
+    @BeforeEach
+    void setUp() {
+        when(employeeRepository.countByDepartment()).thenReturn(List.of(headcount("Engineering", 2)));
+        when(employeeRepository.countByPosition()).thenReturn(List.of(headcount("Software Engineer", 2)));
+        headcounts.reconcile();
+    }
+
+    @Test
+    void onEmployeeChanged_ShouldMoveCounts_WhenDepartmentChanges() {
+        EmployeeResponse before = employee("Engineering", "Software Engineer");
+        EmployeeResponse after = employee("Marketing", "Software Engineer");
+
+        headcounts.onEmployeeChanged(EmployeeChangedEvent.updated(before, after));
+
+        EmployeeStats stats = headcounts.stats();
+        assertThat(stats.getTotal()).isEqualTo(2);
+        assertThat(stats.getDepartments()).isEqualTo(Map.of("Engineering", 1L, "Marketing", 1L));
+        assertThat(stats.getPositions()).isEqualTo(Map.of("Software Engineer", 2L));
+    }
+
+    @Test
+    void onEmployeeChanged_ShouldDropEmptyGroups_WhenLastEmployeeDeleted() {
+        headcounts.onEmployeeChanged(EmployeeChangedEvent.created(employee("Sales", "Account Executive")));
+        headcounts.onEmployeeChanged(EmployeeChangedEvent.deleted(3L, employee("Sales", "Account Executive")));
+
+        assertThat(headcounts.stats().getDepartments()).containsOnlyKeys("Engineering");
+        assertThat(headcounts.stats().getPositions()).containsOnlyKeys("Software Engineer");
+    }
+
+    @Test
+    void reconcile_ShouldReplaceDriftedCounts() {
+        headcounts.onEmployeeChanged(EmployeeChangedEvent.created(employee("Sales", "Account Executive")));
+        when(employeeRepository.countByDepartment()).thenReturn(List.of(headcount("Engineering", 5)));
+        when(employeeRepository.countByPosition()).thenReturn(List.of(headcount("Software Engineer", 5)));
+
+        headcounts.reconcile();
+
+        assertThat(headcounts.stats().getDepartments()).isEqualTo(Map.of("Engineering", 5L));
+        assertThat(headcounts.stats().getTotal()).isEqualTo(5);
+        assertThat(headcounts.stats().getReconciledAt()).isNotNull();
+    }
+
+    private static EmployeeResponse employee(String department, String position) {
+        return EmployeeResponse.builder().id(3L).department(department).position(position).build();
+    }
+
+    private static Headcount headcount(String name, long count) {
+        return new Headcount() {
+            @Override
+            public String getName() {
+                return name;
+            }
+
+            @Override
+            public Long getHeadcount() {
+                return count;
+            }
+        };
+    }
+}
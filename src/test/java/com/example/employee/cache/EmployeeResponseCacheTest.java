@@ -0,0 +1,96 @@
+package com.example.employee.cache;
+
+import com.example.employee.config.ResponseCacheProperties;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EmployeeResponseCacheTest {
+
+    private static final CachedResponse JSON = new CachedResponse("{\"id\":1}".getBytes(), "\"0\"");
+
+    @Test
+    void getOrLoad_ShouldLoadOnce_WhenEntryIsCached() {
+        EmployeeResponseCache cache = cache(100, Duration.ofMinutes(5));
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.getOrLoad(1L, id -> { loads.incrementAndGet(); return JSON; });
+        CachedResponse body = cache.getOrLoad(1L, id -> { loads.incrementAndGet(); return JSON; });
+
+        assertThat(body).isSameAs(JSON);
+        assertThat(loads).hasValue(1);
+        assertThat(cache.stats().getHits()).isEqualTo(1);
+        assertThat(cache.stats().getMisses()).isEqualTo(1);
+    }
+
+    @Test
+    void getIfPresent_ShouldNotLoad_WhenEntryIsMissing() {
+        EmployeeResponseCache cache = cache(100, Duration.ofMinutes(5));
+
+        assertThat(cache.getIfPresent(1L)).isNull();
+        cache.getOrLoad(1L, id -> JSON);
+
+        assertThat(cache.getIfPresent(1L)).isSameAs(JSON);
+        assertThat(cache.stats().getHits()).isEqualTo(1);
+        assertThat(cache.stats().getMisses()).isEqualTo(1);
+    }
+
+    @Test
+    void getOrLoad_ShouldReload_WhenEntryWasInvalidated() {
+        EmployeeResponseCache cache = cache(100, Duration.ofMinutes(5));
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.getOrLoad(1L, id -> { loads.incrementAndGet(); return JSON; });
+        cache.invalidate(1L);
+        cache.getOrLoad(1L, id -> { loads.incrementAndGet(); return JSON; });
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void getOrLoad_ShouldNotCache_WhenInvalidatedDuringLoad() {
+        EmployeeResponseCache cache = cache(100, Duration.ofMinutes(5));
+
+        cache.getOrLoad(1L, id -> {
+            cache.invalidate(1L);
+            return JSON;
+        });
+
+        assertThat(cache.stats().getSize()).isZero();
+    }
+
+    @Test
+    void getOrLoad_ShouldEvictLeastRecentlyUsed_WhenFull() {
+        // One entry per segment, so two IDs in the same segment evict each other
+        EmployeeResponseCache cache = cache(16, Duration.ofMinutes(5));
+
+        cache.getOrLoad(1L, id -> JSON);
+        cache.getOrLoad(17L, id -> JSON);
+
+        assertThat(cache.stats().getEvictions()).isEqualTo(1);
+        assertThat(cache.stats().getSize()).isEqualTo(1);
+    }
+
+    @Test
+    void getOrLoad_ShouldReload_WhenEntryExpired() throws InterruptedException {
+        EmployeeResponseCache cache = cache(100, Duration.ofMillis(1));
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.getOrLoad(1L, id -> { loads.incrementAndGet(); return JSON; });
+        Thread.sleep(5);
+        cache.getOrLoad(1L, id -> { loads.incrementAndGet(); return JSON; });
+
+        assertThat(loads).hasValue(2);
+        assertThat(cache.stats().getExpirations()).isEqualTo(1);
+    }
+
+    private static EmployeeResponseCache cache(int maxEntries, Duration ttl) {
+        ResponseCacheProperties properties = new ResponseCacheProperties();
+        properties.setMaxEntries(maxEntries);
+        properties.setTtl(ttl);
+        return new EmployeeResponseCache(properties);
+    }
+}
@@ -0,0 +1,145 @@
+package com.example.employee.cache;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SingleFlightTest {
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void load_ShouldRunLoaderOnce_ForConcurrentIdenticalCalls() throws Exception {
+        SingleFlight<Long, String> flight = new SingleFlight<>(true, Duration.ofSeconds(10));
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Future<String> leader = executor.submit(() -> flight.load(1L, () -> {
+            loads.incrementAndGet();
+            started.countDown();
+            await(release);
+            return "employee-1";
+        }));
+        started.await(5, TimeUnit.SECONDS);
+        List<Future<String>> followers = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            followers.add(executor.submit(() -> flight.load(1L, () -> {
+                loads.incrementAndGet();
+                return "own load";
+            })));
+        }
+        // Followers count as shared only once the leader finishes, so give them time to join first
+        Thread.sleep(200);
+        release.countDown();
+
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("employee-1");
+        for (Future<String> follower : followers) {
+            assertThat(follower.get(5, TimeUnit.SECONDS)).isEqualTo("employee-1");
+        }
+        assertThat(loads).hasValue(1);
+        SingleFlightStats stats = flight.stats();
+        assertThat(stats.getLeaders()).isEqualTo(1);
+        assertThat(stats.getShared()).isEqualTo(8);
+        assertThat(stats.getInFlight()).isZero();
+        assertThat(stats.getCoalescingRatio()).isEqualTo(8.0 / 9);
+    }
+
+    @Test
+    void load_ShouldRunEveryLoader_WhenCallsDoNotOverlap() {
+        SingleFlight<Long, String> flight = new SingleFlight<>(true, Duration.ofSeconds(10));
+
+        assertThat(flight.load(1L, () -> "first")).isEqualTo("first");
+        assertThat(flight.load(1L, () -> "second")).isEqualTo("second");
+
+        assertThat(flight.stats().getLeaders()).isEqualTo(2);
+        assertThat(flight.stats().getShared()).isZero();
+        assertThat(flight.stats().getInFlight()).isZero();
+    }
+
+    @Test
+    void load_ShouldShareFailure_WithCallersThatJoined() throws Exception {
+        SingleFlight<Long, String> flight = new SingleFlight<>(true, Duration.ofSeconds(10));
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Future<String> leader = executor.submit(() -> flight.load(1L, () -> {
+            started.countDown();
+            await(release);
+            throw new IllegalArgumentException("not found");
+        }));
+        started.await(5, TimeUnit.SECONDS);
+        Future<String> follower = executor.submit(() -> flight.load(1L, () -> "own load"));
+        Thread.sleep(200);
+        release.countDown();
+
+        assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> follower.get(5, TimeUnit.SECONDS))
+                .hasCauseInstanceOf(IllegalArgumentException.class)
+                .hasRootCauseMessage("not found");
+        assertThat(flight.stats().getInFlight()).isZero();
+    }
+
+    @Test
+    void load_ShouldLoadItself_WhenWaitExceedsMaximum() throws Exception {
+        SingleFlight<Long, String> flight = new SingleFlight<>(true, Duration.ofMillis(50));
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        executor.submit(() -> flight.load(1L, () -> {
+            started.countDown();
+            await(release);
+            return "slow";
+        }));
+        started.await(5, TimeUnit.SECONDS);
+
+        assertThat(flight.load(1L, () -> "own load")).isEqualTo("own load");
+        assertThat(flight.stats().getTimeouts()).isEqualTo(1);
+        release.countDown();
+    }
+
+    @Test
+    void forget_ShouldStopNewCallersFromJoiningRunningLoad() throws Exception {
+        SingleFlight<Long, String> flight = new SingleFlight<>(true, Duration.ofSeconds(10));
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Future<String> stale = executor.submit(() -> flight.load(1L, () -> {
+            started.countDown();
+            await(release);
+            return "before change";
+        }));
+        started.await(5, TimeUnit.SECONDS);
+        flight.forget(1L);
+
+        assertThat(flight.load(1L, () -> "after change")).isEqualTo("after change");
+        release.countDown();
+        assertThat(stale.get(5, TimeUnit.SECONDS)).isEqualTo("before change");
+        assertThat(flight.stats().getLeaders()).isEqualTo(2);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
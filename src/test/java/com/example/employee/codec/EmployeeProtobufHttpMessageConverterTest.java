@@ -0,0 +1,89 @@
+package com.example.employee.codec;
+
+import com.example.employee.dto.CreateEmployeeRequest;
+import com.example.employee.dto.EmployeeResponse;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.http.MockHttpInputMessage;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.example.employee.codec.EmployeeProtobufHttpMessageConverter.PROTOBUF;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EmployeeProtobufHttpMessageConverterTest {
+
+    private static final Type EMPLOYEE_LIST = new ParameterizedTypeReference<List<EmployeeResponse>>() { }.getType();
+    private static final Type REQUEST_LIST = new ParameterizedTypeReference<List<CreateEmployeeRequest>>() { }.getType();
+
+    private final EmployeeProtobufHttpMessageConverter converter = new EmployeeProtobufHttpMessageConverter();
+
+    @Test
+    void shouldOnlySupportEmployeePayloads() {
+        assertThat(converter.canWrite(EmployeeResponse.class, EmployeeResponse.class, PROTOBUF)).isTrue();
+        assertThat(converter.canWrite(EMPLOYEE_LIST, List.class, PROTOBUF)).isTrue();
+        assertThat(converter.canWrite(EmployeeResponse.class, EmployeeResponse.class, MediaType.APPLICATION_JSON))
+                .isFalse();
+        assertThat(converter.canWrite(REQUEST_LIST, List.class, PROTOBUF)).isFalse();
+        assertThat(converter.canWrite(List.class, List.class, PROTOBUF)).isFalse();
+        assertThat(converter.canRead(CreateEmployeeRequest.class, null, PROTOBUF)).isTrue();
+        assertThat(converter.canRead(REQUEST_LIST, null, PROTOBUF)).isTrue();
+        assertThat(converter.canRead(EmployeeResponse.class, null, PROTOBUF)).isFalse();
+    }
+
+    @Test
+    void canWrite_ShouldUseBodyClass_WhenDeclaredTypeIsWildcard() {
+        Type wildcard = new ParameterizedTypeReference<ResponseEntity<?>>() { }.getType();
+        Type body = ((ParameterizedType) wildcard).getActualTypeArguments()[0];
+
+        assertThat(converter.canWrite(body, EmployeeResponse.class, PROTOBUF)).isTrue();
+        assertThat(converter.canWrite(body, CreateEmployeeRequest.class, PROTOBUF)).isFalse();
+        assertThat(converter.canWrite(Object.class, EmployeeResponse.class, PROTOBUF)).isTrue();
+    }
+
+    @Test
+    void write_ShouldRoundTripEmployeeList() throws IOException {
+        // Given
+        LocalDateTime now = LocalDateTime.of(2024, 5, 6, 7, 8, 9, 123_000_000);
+        List<EmployeeResponse> employees = List.of(
+                new EmployeeResponse(1L, "John", "Doe", "john.doe@example.com", "Engineering", "Developer", now, now, 0L),
+                new EmployeeResponse(2L, "Jöhanna", "Smith", "j.smith@example.com", "Sales", "Lead", now, null, 4L));
+        MockHttpOutputMessage output = new MockHttpOutputMessage();
+
+        // When
+        converter.write(employees, EMPLOYEE_LIST, PROTOBUF, output);
+
+        // Then
+        assertThat(output.getHeaders().getContentType()).isEqualTo(PROTOBUF);
+        List<EmployeeResponse> decoded = EmployeeProtobufCodec.readEmployees(
+                CodedInputStream.newInstance(output.getBodyAsBytes()));
+        assertThat(decoded).isEqualTo(employees);
+    }
+
+    @Test
+    void read_ShouldDecodeCreateRequest() throws IOException {
+        // Given
+        CreateEmployeeRequest request = new CreateEmployeeRequest("John", "Doe", "john.doe@example.com",
+                "Engineering", "Developer");
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        CodedOutputStream out = CodedOutputStream.newInstance(bytes);
+        EmployeeProtobufCodec.writeCreateRequest(request, out);
+        out.flush();
+
+        // When
+        Object decoded = converter.read(CreateEmployeeRequest.class, null, new MockHttpInputMessage(bytes.toByteArray()));
+
+        // Then
+        assertThat(decoded).isEqualTo(request);
+    }
+}
@@ -0,0 +1,136 @@
+package com.example.employee.controller;
+
+import static com.example.employee.codec.EmployeeProtobufHttpMessageConverter.PROTOBUF;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.context.WebApplicationContext;
+
+import com.example.employee.codec.EmployeeProtobufCodec;
+import com.example.employee.dto.EmployeeResponse;
+import com.example.employee.model.Employee;
+import com.example.employee.repository.EmployeeRepository;
+import com.google.protobuf.CodedInputStream;
+
+@SpringBootTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(locations = "classpath:application-test.yml")
+@Transactional
+class EmployeeContentNegotiationTest {
+
+    private MockMvc mockMvc;
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    private Employee testEmployee;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext).build();
+        employeeRepository.deleteAll();
+
+        testEmployee = employeeRepository.save(Employee.builder()
+                .firstName("John")
+                .lastName("Doe")
+                .email("john.doe@example.com")
+                .department("Engineering")
+                .position("Software Engineer")
+                .build());
+    }
+
+    @Test
+    void getEmployeeById_ShouldReturnProtobuf_WhenAccepted() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/employees/{id}", testEmployee.getId())
+                        .accept(PROTOBUF))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(PROTOBUF))
+                .andReturn();
+
+        EmployeeResponse employee = EmployeeProtobufCodec.readEmployee(
+                CodedInputStream.newInstance(result.getResponse().getContentAsByteArray()));
+        assertThat(employee.getId()).isEqualTo(testEmployee.getId());
+        assertThat(employee.getEmail()).isEqualTo("john.doe@example.com");
+    }
+
+    @Test
+    void getAllEmployees_ShouldReturnProtobuf_WhenAccepted() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/employees").accept(PROTOBUF))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(PROTOBUF))
+                .andReturn();
+
+        List<EmployeeResponse> employees = EmployeeProtobufCodec.readEmployees(
+                CodedInputStream.newInstance(result.getResponse().getContentAsByteArray()));
+        assertThat(employees).extracting(EmployeeResponse::getId).containsExactly(testEmployee.getId());
+    }
+
+    @Test
+    void getEmployeeById_ShouldTagEachFormatSeparately() throws Exception {
+        String jsonTag = "\"" + testEmployee.getVersion() + "\"";
+        String protobufTag = "\"" + testEmployee.getVersion() + "-protobuf\"";
+
+        mockMvc.perform(get("/api/employees/{id}", testEmployee.getId()).accept(PROTOBUF))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, protobufTag))
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT));
+        // A JSON tag does not validate the protobuf body, and vice versa
+        mockMvc.perform(get("/api/employees/{id}", testEmployee.getId())
+                        .accept(PROTOBUF)
+                        .header(HttpHeaders.IF_NONE_MATCH, jsonTag))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/employees/{id}", testEmployee.getId())
+                        .accept(PROTOBUF)
+                        .header(HttpHeaders.IF_NONE_MATCH, protobufTag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, protobufTag))
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT));
+        mockMvc.perform(get("/api/employees/{id}", testEmployee.getId())
+                        .header(HttpHeaders.IF_NONE_MATCH, protobufTag))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, jsonTag));
+    }
+
+    @Test
+    void getEmployeeById_ShouldHonorQualityValues() throws Exception {
+        mockMvc.perform(get("/api/employees/{id}", testEmployee.getId())
+                        .header(HttpHeaders.ACCEPT, "application/json;q=0.5, application/cbor"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR));
+        mockMvc.perform(get("/api/employees/{id}", testEmployee.getId())
+                        .header(HttpHeaders.ACCEPT, "application/cbor;q=0.5, application/json"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON));
+        mockMvc.perform(get("/api/employees/{id}", testEmployee.getId())
+                        .header(HttpHeaders.ACCEPT, "text/csv"))
+                .andExpect(status().isNotAcceptable());
+    }
+
+    @Test
+    void getAllEmployees_ShouldPreferJson_WhenAnyFormatIsAccepted() throws Exception {
+        mockMvc.perform(get("/api/employees").accept(MediaType.ALL))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT));
+    }
+}
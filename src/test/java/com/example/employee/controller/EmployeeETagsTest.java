@@ -0,0 +1,61 @@
+package com.example.employee.controller;
+
+import com.example.employee.dto.EmployeeResponse;
+import com.example.employee.exception.EmployeeVersionMismatchException;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class EmployeeETagsTest {
+
+    @Test
+    void of_ShouldChange_WhenAnyVersionOnThePageChanges() {
+        List<EmployeeResponse> page = List.of(employee(1L, 0L), employee(2L, 0L));
+        List<EmployeeResponse> updated = List.of(employee(1L, 0L), employee(2L, 1L));
+
+        assertThat(EmployeeETags.of(page, 3L)).isEqualTo(EmployeeETags.of(List.copyOf(page), 3L));
+        assertThat(EmployeeETags.of(page, 3L)).isNotEqualTo(EmployeeETags.of(updated, 3L));
+        assertThat(EmployeeETags.of(page, 3L)).isNotEqualTo(EmployeeETags.of(page, (Object) null));
+    }
+
+    @Test
+    void forRepresentation_ShouldGiveEachBinaryFormatItsOwnTag() {
+        assertThat(EmployeeETags.forRepresentation("\"7\"", MediaType.APPLICATION_JSON)).isEqualTo("\"7\"");
+        assertThat(EmployeeETags.forRepresentation("\"7\"", MediaType.APPLICATION_CBOR)).isEqualTo("\"7-cbor\"");
+        assertThat(EmployeeETags.forRepresentation("\"7\"", new MediaType("application", "x-protobuf")))
+                .isEqualTo("\"7-protobuf\"");
+    }
+
+    @Test
+    void noneMatch_ShouldUseWeakComparison() {
+        assertThat(EmployeeETags.noneMatch("\"7\"", "\"7\"")).isTrue();
+        assertThat(EmployeeETags.noneMatch("\"6\", W/\"7\"", "\"7\"")).isTrue();
+        assertThat(EmployeeETags.noneMatch("*", "\"7\"")).isTrue();
+        assertThat(EmployeeETags.noneMatch("\"6\"", "\"7\"")).isFalse();
+        assertThat(EmployeeETags.noneMatch(null, "\"7\"")).isFalse();
+    }
+
+    @Test
+    void requiredVersion_ShouldParseStrongTag() {
+        assertThat(EmployeeETags.requiredVersion("\"7\"")).isEqualTo(7L);
+        assertThat(EmployeeETags.requiredVersion("\"7-cbor\"")).isEqualTo(7L);
+        assertThat(EmployeeETags.requiredVersion("*")).isNull();
+        assertThat(EmployeeETags.requiredVersion(null)).isNull();
+    }
+
+    @Test
+    void requiredVersion_ShouldFailPrecondition_WhenTagIsForeign() {
+        assertThatThrownBy(() -> EmployeeETags.requiredVersion("W/\"7\""))
+                .isInstanceOf(EmployeeVersionMismatchException.class);
+        assertThatThrownBy(() -> EmployeeETags.requiredVersion("\"abc\""))
+                .isInstanceOf(EmployeeVersionMismatchException.class);
+    }
+
+    private static EmployeeResponse employee(Long id, Long version) {
+        return EmployeeResponse.builder().id(id).version(version).build();
+    }
+}
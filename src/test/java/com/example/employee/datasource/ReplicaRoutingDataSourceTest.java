@@ -0,0 +1,138 @@
+package com.example.employee.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Routes between two independent in-memory H2 databases, each of which knows its own name.
+ */
+class ReplicaRoutingDataSourceTest {
+
+    private DataSource primary;
+    private DataSource replica;
+    private ReplicaRoutingDataSource routing;
+
+    @BeforeEach
+    void setUp() {
+        primary = database("primary");
+        replica = database("replica");
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        if (routing != null) {
+            routing.close();
+        }
+        new JdbcTemplate(primary).execute("SHUTDOWN");
+        new JdbcTemplate(replica).execute("SHUTDOWN");
+    }
+
+    @Test
+    void shouldSendReadOnlyTransactionsToReplica_AndWritesToPrimary() {
+        // Given
+        routing = routing(List.of(replica), null, null);
+
+        // When / Then
+        assertThat(nodeName(true)).isEqualTo("replica");
+        assertThat(nodeName(false)).isEqualTo("primary");
+        assertThat(new JdbcTemplate(routing).queryForObject("SELECT name FROM node", String.class))
+                .isEqualTo("primary");
+        assertThat(routing.primaryFallbacks()).isZero();
+    }
+
+    @Test
+    void shouldRouteConnectionsRequestedWithCredentials() throws SQLException {
+        // Given
+        routing = routing(List.of(replica), null, null);
+
+        // When / Then
+        try (Connection connection = routing.getConnection("sa", "")) {
+            connection.setReadOnly(true);
+            assertThat(nodeName(connection)).isEqualTo("replica");
+        }
+        try (Connection connection = routing.getConnection("sa", "")) {
+            assertThat(nodeName(connection)).isEqualTo("primary");
+        }
+    }
+
+    @Test
+    void shouldFallBackToPrimary_WhenReplicaIsUnreachable() {
+        // Given
+        DriverManagerDataSource unreachable = new DriverManagerDataSource("jdbc:h2:tcp://localhost:1/unreachable");
+        routing = routing(List.of(unreachable), null, null);
+
+        // When / Then
+        assertThat(nodeName(true)).isEqualTo("primary");
+        assertThat(routing.availableReplicas()).isZero();
+        assertThat(routing.primaryFallbacks()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldSkipReplica_WhileItLagsBeyondTheLimit() {
+        // Given
+        JdbcTemplate replicaJdbc = new JdbcTemplate(replica);
+        replicaJdbc.execute("CREATE TABLE replica_lag (seconds DOUBLE)");
+        replicaJdbc.update("INSERT INTO replica_lag VALUES (30)");
+        routing = routing(List.of(replica), Duration.ofSeconds(5), "SELECT seconds FROM replica_lag");
+
+        // When
+        routing.checkReplicas();
+
+        // Then
+        assertThat(nodeName(true)).isEqualTo("primary");
+
+        // When
+        replicaJdbc.update("UPDATE replica_lag SET seconds = 1");
+        routing.checkReplicas();
+
+        // Then
+        assertThat(nodeName(true)).isEqualTo("replica");
+    }
+
+    private ReplicaRoutingDataSource routing(List<DataSource> replicas, Duration maxLag, String lagQuery) {
+        ReplicaRoutingDataSource dataSource = new ReplicaRoutingDataSource(primary, replicas, Duration.ZERO,
+                maxLag, lagQuery);
+        dataSource.afterPropertiesSet();
+        return dataSource;
+    }
+
+    private String nodeName(boolean readOnly) {
+        TransactionTemplate transaction = new TransactionTemplate(new DataSourceTransactionManager(routing));
+        transaction.setReadOnly(readOnly);
+        return transaction.execute(status ->
+                new JdbcTemplate(routing).queryForObject("SELECT name FROM node", String.class));
+    }
+
+    private static String nodeName(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT name FROM node")) {
+            resultSet.next();
+            return resultSet.getString(1);
+        }
+    }
+
+    private static DataSource database(String name) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + name + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("CREATE TABLE node (name VARCHAR(20))");
+        jdbc.update("INSERT INTO node VALUES (?)", name);
+        return dataSource;
+    }
+}
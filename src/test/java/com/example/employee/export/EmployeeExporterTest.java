@@ -0,0 +1,87 @@
+package com.example.employee.export;
+
+import com.example.employee.dto.EmployeeResponse;
+import com.example.employee.service.EmployeeService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+
+@ExtendWith(MockitoExtension.class)
+class EmployeeExporterTest {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2024, 1, 2, 3, 4, 5);
+
+    @Mock
+    private EmployeeService employeeService;
+
+    private EmployeeExporter exporter;
+
+    @BeforeEach
+    void setUp() {
+        exporter = new EmployeeExporter(employeeService, new ObjectMapper().registerModule(new JavaTimeModule()));
+        doAnswer(invocation -> {
+            Consumer<EmployeeResponse> consumer = invocation.getArgument(0);
+            consumer.accept(new EmployeeResponse(1L, "John", "Doe", "john.doe@example.com",
+                    "Engineering", "Developer", CREATED_AT, CREATED_AT, 0L));
+            consumer.accept(new EmployeeResponse(2L, "Anne \"Annie\"", "Smith, Jr.", "anne@example.com",
+                    "R&D\nLabs", "Lead", CREATED_AT, CREATED_AT, 3L));
+            return null;
+        }).when(employeeService).streamAllEmployees(any());
+    }
+
+    @Test
+    void export_ShouldWriteQuotedCsvWithHeader() throws IOException {
+        // Given
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // When
+        exporter.export(ExportFormat.CSV, false, out);
+
+        // Then
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo(EmployeeExporter.CSV_HEADER + "\n"
+                + "1,John,Doe,john.doe@example.com,Engineering,Developer,2024-01-02T03:04:05,2024-01-02T03:04:05,0\n"
+                + "2,\"Anne \"\"Annie\"\"\",\"Smith, Jr.\",anne@example.com,\"R&D\nLabs\",Lead,"
+                + "2024-01-02T03:04:05,2024-01-02T03:04:05,3\n");
+    }
+
+    @Test
+    void export_ShouldWriteOneJsonObjectPerLine_WhenGzipped() throws IOException {
+        // Given
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // When
+        exporter.export(ExportFormat.NDJSON, true, out);
+
+        // Then
+        String body;
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+            body = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+        assertThat(body.split("\n")).hasSize(2)
+                .allSatisfy(line -> assertThat(line).startsWith("{\"id\":").endsWith("}"));
+        assertThat(body).endsWith("}\n");
+    }
+
+    @Test
+    void forParameter_ShouldIgnoreCase() {
+        assertThat(ExportFormat.forParameter("CSV")).contains(ExportFormat.CSV);
+        assertThat(ExportFormat.forParameter("ndjson")).contains(ExportFormat.NDJSON);
+        assertThat(ExportFormat.forParameter("xml")).isEmpty();
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.employee.importer;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CsvImportRowReaderTest {
+
+    @Test
+    void next_ShouldMapColumnsByHeader_InAnyOrder() throws IOException {
+        CsvImportRowReader reader = reader("""
+                email,first_name,Last_Name,department,position,ignored
+                john.doe@example.com,John,Doe,Engineering,Software Engineer,x
+                """);
+
+        ImportRow row = reader.next();
+
+        assertThat(row.getLine()).isEqualTo(2);
+        assertThat(row.getRequest().getFirstName()).isEqualTo("John");
+        assertThat(row.getRequest().getLastName()).isEqualTo("Doe");
+        assertThat(row.getRequest().getEmail()).isEqualTo("john.doe@example.com");
+        assertThat(reader.next()).isNull();
+    }
+
+    @Test
+    void next_ShouldHandleQuotedFields() throws IOException {
+        CsvImportRowReader reader = reader("""
+                firstName,lastName,email,department,position
+                "Mary ""M""",O'Neil,mary@example.com,"Research, Labs","Line one
+                line two"
+
+                Jane,Doe,jane@example.com,Sales,Rep
+                """);
+
+        ImportRow first = reader.next();
+        ImportRow second = reader.next();
+
+        assertThat(first.getRequest().getFirstName()).isEqualTo("Mary \"M\"");
+        assertThat(first.getRequest().getDepartment()).isEqualTo("Research, Labs");
+        assertThat(first.getRequest().getPosition()).isEqualTo("Line one\nline two");
+        assertThat(second.getLine()).isEqualTo(5);
+        assertThat(second.getRequest().getEmail()).isEqualTo("jane@example.com");
+    }
+
+    @Test
+    void next_ShouldReportShortRows_AsUnreadable() throws IOException {
+        CsvImportRowReader reader = reader("""
+                firstName,lastName,email,department,position
+                John,Doe
+                """);
+
+        ImportRow row = reader.next();
+
+        assertThat(row.getRequest()).isNull();
+        assertThat(row.getError()).contains("found 2");
+    }
+
+    @Test
+    void next_ShouldRejectHeader_WhenColumnsAreMissing() {
+        CsvImportRowReader reader = reader("firstName,lastName\n");
+
+        assertThatThrownBy(reader::next)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("email");
+    }
+
+    private static CsvImportRowReader reader(String csv) {
+        return new CsvImportRowReader(new StringReader(csv));
+    }
+}
@@ -0,0 +1,167 @@
+package com.example.employee.importer;
+
+import com.example.employee.config.ImportProperties;
+import com.example.employee.dto.BatchCreateResponse;
+import com.example.employee.dto.BatchCreateResult;
+import com.example.employee.dto.ImportJobStatus;
+import com.example.employee.exception.ImportQueueFullException;
+import com.example.employee.service.EmployeeService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class EmployeeImportServiceTest {
+
+    @Mock
+    private EmployeeService employeeService;
+
+    @TempDir
+    Path tempDir;
+
+    private EmployeeImportService importService;
+
+    @BeforeEach
+    void setUp() {
+        ImportProperties properties = new ImportProperties();
+        properties.setChunkSize(2);
+        importService = new EmployeeImportService(employeeService, new ObjectMapper(), properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        importService.shutdown();
+    }
+
+    @Test
+    void run_ShouldContinue_WhenAChunkFails() throws IOException {
+        // Given
+        Path file = Files.writeString(tempDir.resolve("employees.ndjson"), """
+                {"firstName":"A","lastName":"A","email":"a@example.com","department":"D","position":"P"}
+                {"firstName":"B","lastName":"B","email":"b@example.com","department":"D","position":"P"}
+                not json
+                {"firstName":"C","lastName":"C","email":"c@example.com","department":"D","position":"P"}
+                {"firstName":"D","lastName":"D","email":"d@example.com","department":"D","position":"P"}
+                {"firstName":"E","lastName":"E","email":"e@example.com","department":"D","position":"P"}
+                """);
+        when(employeeService.createEmployees(anyList()))
+                .thenReturn(created(2))
+                .thenThrow(new DataIntegrityViolationException("duplicate email"))
+                .thenReturn(created(1));
+        ImportJob job = new ImportJob("job-1", ImportFormat.NDJSON, 10);
+
+        // When
+        importService.run(job, file);
+
+        // Then
+        ImportJobStatus status = job.toStatus();
+        assertThat(status.getState()).isEqualTo(ImportJobStatus.State.COMPLETED);
+        assertThat(status.getRowsImported()).isEqualTo(3);
+        assertThat(status.getRowsFailed()).isEqualTo(3);
+        assertThat(status.getRowsProcessed()).isEqualTo(6);
+        assertThat(status.getChunksCommitted()).isEqualTo(2);
+        assertThat(status.getChunksFailed()).isEqualTo(1);
+        assertThat(status.getErrors()).extracting("line").containsExactly(3L, 4L, 5L);
+        assertThat(file).doesNotExist();
+    }
+
+    @Test
+    void startImport_ShouldRefuse_WhenQueueIsFull() throws Exception {
+        // Given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        importService = singleWorker(started, release);
+        importService.startImport(upload(), ImportFormat.NDJSON);
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        importService.startImport(upload(), ImportFormat.NDJSON);
+        Set<Path> spooled = spoolFiles();
+
+        // When / Then
+        assertThatThrownBy(() -> importService.startImport(upload(), ImportFormat.NDJSON))
+                .isInstanceOf(ImportQueueFullException.class);
+        assertThat(spoolFiles()).isEqualTo(spooled);
+        release.countDown();
+    }
+
+    @Test
+    void shutdown_ShouldFailQueuedImports_AndDeleteTheirFiles() throws Exception {
+        // Given
+        CountDownLatch started = new CountDownLatch(1);
+        importService = singleWorker(started, new CountDownLatch(1));
+        importService.startImport(upload(), ImportFormat.NDJSON);
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        Set<Path> beforeQueued = spoolFiles();
+        ImportJobStatus queued = importService.startImport(upload(), ImportFormat.NDJSON);
+        Set<Path> queuedFiles = spoolFiles();
+        queuedFiles.removeAll(beforeQueued);
+
+        // When
+        importService.shutdown();
+
+        // Then
+        assertThat(importService.getStatus(queued.getId()).getState()).isEqualTo(ImportJobStatus.State.FAILED);
+        assertThat(queuedFiles).hasSize(1).allSatisfy(file -> assertThat(file).doesNotExist());
+    }
+
+    /**
+     * One worker and one queue slot; the worker holds its first chunk until {@code release} opens.
+     */
+    private EmployeeImportService singleWorker(CountDownLatch started, CountDownLatch release) {
+        importService.shutdown();
+        ImportProperties properties = new ImportProperties();
+        properties.setConcurrency(1);
+        properties.setQueueCapacity(1);
+        when(employeeService.createEmployees(anyList())).thenAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return created(1);
+        });
+        return new EmployeeImportService(employeeService, new ObjectMapper(), properties);
+    }
+
+    private static InputStream upload() {
+        return new ByteArrayInputStream("""
+                {"firstName":"A","lastName":"A","email":"a@example.com","department":"D","position":"P"}
+                """.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Set<Path> spoolFiles() throws IOException {
+        try (Stream<Path> files = Files.list(Path.of(System.getProperty("java.io.tmpdir")))) {
+            return files.filter(file -> file.getFileName().toString().startsWith("employee-import-"))
+                    .collect(Collectors.toCollection(HashSet::new));
+        }
+    }
+
+    private static BatchCreateResponse created(int count) {
+        List<BatchCreateResult> results = IntStream.range(0, count)
+                .mapToObj(i -> BatchCreateResult.builder().index(i).status(BatchCreateResult.Status.CREATED).build())
+                .toList();
+        return new BatchCreateResponse(count, 0, results);
+    }
+}
@@ -0,0 +1,160 @@
+package com.example.employee.load;
+
+import com.example.employee.model.Employee;
+import com.example.employee.repository.EmployeeRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Boots the full application on a random port against the in-memory H2 database and drives mixed
+ * create/read/list/update/delete traffic through real HTTP.
+ * <p>
+ * Run with {@code ./gradlew benchmark --tests '*EmployeeApiLoadTest'}; see {@link LoadTestSettings}
+ * for the knobs. The report is printed and written to {@code build/reports/load/employee-api.json}.
+ * {@link #blockingV1AgainstReactiveV2()} drives the same mix against {@code /api/employees} and
+ * {@code /api/v2/employees} in turn and writes {@code employee-api-v1.json} and {@code employee-api-v2.json}.
+ */
+@Tag("benchmark")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.jpa.show-sql=false",
+        // The load generator is a single client; it measures capacity, not the per-client limits
+        "employee.rate-limit.enabled=false",
+        "logging.level.com.example.employee=WARN",
+        "logging.level.org.springframework.security=WARN"
+})
+class EmployeeApiLoadTest {
+
+    private static final int SEED_EMPLOYEES = 2_000;
+    private static final String V1_PATH = "/api/employees";
+    private static final String V2_PATH = "/api/v2/employees";
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final AtomicLong emailSequence = new AtomicLong();
+
+    @Test
+    void mixedCrudTraffic() throws Exception {
+        EmployeeIdPool ids = seed();
+
+        LoadTestReport report = new LoadTestHarness()
+                .run("employee-api", operations(ids, V1_PATH), LoadTestSettings.fromSystemProperties());
+        report.print();
+        report.write();
+
+        assertThat(report.totalRequests()).isPositive();
+    }
+
+    /**
+     * Same traffic against both API versions, each with a freshly seeded ID pool. Both share the database,
+     * so the comparison isolates the request handling: blocking JDBC on request threads against R2DBC with
+     * the request thread released while a query runs.
+     */
+    @Test
+    void blockingV1AgainstReactiveV2() throws Exception {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+
+        LoadTestReport v1 = new LoadTestHarness().run("employee-api-v1", operations(seed(), V1_PATH), settings);
+        LoadTestReport v2 = new LoadTestHarness().run("employee-api-v2", operations(seed(), V2_PATH), settings);
+
+        v1.print();
+        v2.print();
+        System.out.printf("v2/v1 throughput: %.2fx%n", v2.throughputPerSecond() / v1.throughputPerSecond());
+        v1.write();
+        v2.write();
+
+        assertThat(v1.totalRequests()).isPositive();
+        assertThat(v2.totalRequests()).isPositive();
+    }
+
+    List<LoadOperation> operations(EmployeeIdPool ids, String path) {
+        String baseUrl = "http://localhost:" + port + path;
+        return List.of(
+                LoadOperation.of("create", 10,
+                        () -> jsonRequest(URI.create(baseUrl), "POST", newEmployeeJson()),
+                        status -> status == 201)
+                        .onSuccess(response -> ids.add(readId(response))),
+                LoadOperation.of("read", 60,
+                        () -> {
+                            long id = ids.peek();
+                            return id == 0 ? null : HttpRequest.newBuilder(URI.create(baseUrl + "/" + id)).GET().build();
+                        },
+                        // A concurrent delete can legitimately win the race
+                        status -> status == 200 || status == 404),
+                LoadOperation.of("list", 10,
+                        () -> HttpRequest.newBuilder(URI.create(baseUrl + "?limit=50&after="
+                                + ThreadLocalRandom.current().nextInt(SEED_EMPLOYEES))).GET().build(),
+                        status -> status == 200),
+                LoadOperation.of("update", 15,
+                        () -> {
+                            long id = ids.peek();
+                            return id == 0 ? null : jsonRequest(URI.create(baseUrl + "/" + id), "PUT", newEmployeeJson());
+                        },
+                        status -> status == 200 || status == 404),
+                LoadOperation.of("delete", 5,
+                        () -> {
+                            long id = ids.take();
+                            return id == 0 ? null : HttpRequest.newBuilder(URI.create(baseUrl + "/" + id)).DELETE().build();
+                        },
+                        status -> status == 204));
+    }
+
+    EmployeeIdPool seed() {
+        List<Employee> employees = new ArrayList<>(SEED_EMPLOYEES);
+        for (int i = 0; i < SEED_EMPLOYEES; i++) {
+            employees.add(Employee.builder()
+                    .firstName("Seed")
+                    .lastName("Employee" + i)
+                    .email("seed" + emailSequence.incrementAndGet() + "@example.com")
+                    .department(i % 2 == 0 ? "Engineering" : "Sales")
+                    .position("Engineer")
+                    .build());
+        }
+        EmployeeIdPool ids = new EmployeeIdPool(100_000);
+        employeeRepository.saveAll(employees).forEach(employee -> ids.add(employee.getId()));
+        return ids;
+    }
+
+    private String newEmployeeJson() {
+        long n = emailSequence.incrementAndGet();
+        return "{\"firstName\":\"Load\",\"lastName\":\"Test" + n + "\",\"email\":\"load" + n
+                + "@example.com\",\"department\":\"Engineering\",\"position\":\"Engineer\"}";
+    }
+
+    private static HttpRequest jsonRequest(URI uri, String method, String json) {
+        return HttpRequest.newBuilder(uri)
+                .header("Content-Type", "application/json")
+                .method(method, HttpRequest.BodyPublishers.ofString(json))
+                .build();
+    }
+
+    private long readId(HttpResponse<String> response) {
+        try {
+            return objectMapper.readTree(response.body()).get("id").asLong();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
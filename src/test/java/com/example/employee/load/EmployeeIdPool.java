@@ -0,0 +1,53 @@
+package com.example.employee.load;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free pool of known employee IDs for load generators. Slots are reused round-robin, so the pool
+ * keeps the most recently created IDs once it wraps; an empty slot holds {@code 0}.
+ */
+public class EmployeeIdPool {
+
+    private static final int ATTEMPTS = 8;
+
+    private final AtomicLongArray slots;
+    private final AtomicInteger next = new AtomicInteger();
+
+    public EmployeeIdPool(int capacity) {
+        this.slots = new AtomicLongArray(capacity);
+    }
+
+    public void add(long id) {
+        slots.set(Math.floorMod(next.getAndIncrement(), slots.length()), id);
+    }
+
+    /**
+     * Returns a random known ID, or {@code 0} when none was found.
+     */
+    public long peek() {
+        int filled = Math.min(next.get(), slots.length());
+        for (int attempt = 0; filled > 0 && attempt < ATTEMPTS; attempt++) {
+            long id = slots.get(ThreadLocalRandom.current().nextInt(filled));
+            if (id != 0) {
+                return id;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Removes and returns a random known ID, or {@code 0} when none was found.
+     */
+    public long take() {
+        int filled = Math.min(next.get(), slots.length());
+        for (int attempt = 0; filled > 0 && attempt < ATTEMPTS; attempt++) {
+            long id = slots.getAndSet(ThreadLocalRandom.current().nextInt(filled), 0);
+            if (id != 0) {
+                return id;
+            }
+        }
+        return 0;
+    }
+}
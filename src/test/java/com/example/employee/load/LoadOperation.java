@@ -0,0 +1,27 @@
+package com.example.employee.load;
+
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.function.Consumer;
+import java.util.function.IntPredicate;
+import java.util.function.Supplier;
+
+/**
+ * One kind of request in a traffic mix. {@code request} may return {@code null} when the operation
+ * cannot run right now (e.g. nothing left to delete); that slot is then skipped.
+ */
+public record LoadOperation(
+        String name,
+        int weight,
+        Supplier<HttpRequest> request,
+        IntPredicate expectedStatus,
+        Consumer<HttpResponse<String>> onSuccess) {
+
+    public static LoadOperation of(String name, int weight, Supplier<HttpRequest> request, IntPredicate expectedStatus) {
+        return new LoadOperation(name, weight, request, expectedStatus, response -> { });
+    }
+
+    public LoadOperation onSuccess(Consumer<HttpResponse<String>> onSuccess) {
+        return new LoadOperation(name, weight, request, expectedStatus, onSuccess);
+    }
+}
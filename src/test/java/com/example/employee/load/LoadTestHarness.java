@@ -0,0 +1,139 @@
+package com.example.employee.load;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Drives a weighted mix of HTTP operations at a fixed arrival rate from a bounded pool of workers and
+ * records per-operation latency in HdrHistograms.
+ * <p>
+ * Latency is measured from each request's <em>intended</em> send time rather than the moment a worker
+ * got around to sending it, so a stalled server shows up as queueing delay instead of being hidden
+ * (coordinated omission). A rate of {@code 0} runs closed-loop, as fast as the workers can go.
+ */
+public class LoadTestHarness {
+
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    private final HttpClient client;
+
+    public LoadTestHarness() {
+        this(HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build());
+    }
+
+    public LoadTestHarness(HttpClient client) {
+        this.client = client;
+    }
+
+    public LoadTestReport run(String name, List<LoadOperation> operations, LoadTestSettings settings)
+            throws InterruptedException {
+        if (!settings.warmup().isZero()) {
+            runPhase(operations, settings, settings.warmup());
+        }
+        Map<String, OperationStats> stats = runPhase(operations, settings, settings.duration());
+        return LoadTestReport.from(name, settings, stats);
+    }
+
+    private Map<String, OperationStats> runPhase(List<LoadOperation> operations, LoadTestSettings settings,
+                                                 Duration duration) throws InterruptedException {
+        Map<String, OperationStats> stats = new LinkedHashMap<>();
+        operations.forEach(operation -> stats.put(operation.name(), new OperationStats()));
+        int[] cumulativeWeights = cumulativeWeights(operations);
+
+        long intervalNanos = settings.rate() > 0 ? TimeUnit.SECONDS.toNanos(1) / settings.rate() : 0;
+        AtomicLong sequence = new AtomicLong();
+        long start = System.nanoTime();
+        long end = start + duration.toNanos();
+
+        ExecutorService workers = Executors.newFixedThreadPool(settings.concurrency());
+        for (int i = 0; i < settings.concurrency(); i++) {
+            workers.execute(() -> {
+                while (true) {
+                    long intended = intervalNanos > 0
+                            ? start + sequence.getAndIncrement() * intervalNanos
+                            : System.nanoTime();
+                    if (intended >= end) {
+                        return;
+                    }
+                    long wait = intended - System.nanoTime();
+                    if (wait > 0) {
+                        LockSupport.parkNanos(wait);
+                    }
+                    LoadOperation operation = pick(operations, cumulativeWeights);
+                    execute(operation, intended, stats.get(operation.name()));
+                }
+            });
+        }
+        workers.shutdown();
+        workers.awaitTermination(duration.toSeconds() + 60, TimeUnit.SECONDS);
+        long elapsed = System.nanoTime() - start;
+        stats.values().forEach(operationStats -> operationStats.elapsedNanos = elapsed);
+        return stats;
+    }
+
+    private void execute(LoadOperation operation, long intended, OperationStats stats) {
+        HttpRequest request = operation.request().get();
+        if (request == null) {
+            return;
+        }
+        try {
+            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+            stats.latency.recordValue(System.nanoTime() - intended);
+            if (operation.expectedStatus().test(response.statusCode())) {
+                operation.onSuccess().accept(response);
+            } else {
+                stats.errors.increment();
+            }
+        } catch (IOException ex) {
+            stats.latency.recordValue(System.nanoTime() - intended);
+            stats.errors.increment();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static int[] cumulativeWeights(List<LoadOperation> operations) {
+        int[] cumulative = new int[operations.size()];
+        int total = 0;
+        for (int i = 0; i < operations.size(); i++) {
+            total += operations.get(i).weight();
+            cumulative[i] = total;
+        }
+        return cumulative;
+    }
+
+    private static LoadOperation pick(List<LoadOperation> operations, int[] cumulativeWeights) {
+        int roll = ThreadLocalRandom.current().nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (roll < cumulativeWeights[i]) {
+                return operations.get(i);
+            }
+        }
+        return operations.get(operations.size() - 1);
+    }
+
+    static final class OperationStats {
+        final Histogram latency = new ConcurrentHistogram(SIGNIFICANT_DIGITS);
+        final LongAdder errors = new LongAdder();
+        long elapsedNanos;
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.employee.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Throughput and latency percentiles per operation, printable and writable as JSON so runs can be
+ * compared across builds.
+ */
+public record LoadTestReport(
+        String name,
+        int targetRate,
+        int concurrency,
+        double durationSeconds,
+        long totalRequests,
+        long totalErrors,
+        double throughputPerSecond,
+        List<OperationReport> operations) {
+
+    public record OperationReport(
+            String name,
+            long requests,
+            long errors,
+            double throughputPerSecond,
+            double p50Millis,
+            double p99Millis,
+            double p999Millis,
+            double maxMillis) {
+    }
+
+    static LoadTestReport from(String name, LoadTestSettings settings, Map<String, LoadTestHarness.OperationStats> stats) {
+        List<OperationReport> operations = new ArrayList<>();
+        long totalRequests = 0;
+        long totalErrors = 0;
+        double seconds = 0;
+        for (Map.Entry<String, LoadTestHarness.OperationStats> entry : stats.entrySet()) {
+            Histogram latency = entry.getValue().latency;
+            seconds = entry.getValue().elapsedNanos / 1e9;
+            long requests = latency.getTotalCount();
+            long errors = entry.getValue().errors.sum();
+            totalRequests += requests;
+            totalErrors += errors;
+            operations.add(new OperationReport(
+                    entry.getKey(),
+                    requests,
+                    errors,
+                    requests / seconds,
+                    millis(latency.getValueAtPercentile(50)),
+                    millis(latency.getValueAtPercentile(99)),
+                    millis(latency.getValueAtPercentile(99.9)),
+                    millis(latency.getMaxValue())));
+        }
+        return new LoadTestReport(name, settings.rate(), settings.concurrency(), seconds,
+                totalRequests, totalErrors, totalRequests / seconds, operations);
+    }
+
+    public void print() {
+        System.out.printf("%n== %s: %d requests, %d errors, %.1f req/s (target %d req/s, %d workers, %.1fs) ==%n",
+                name, totalRequests, totalErrors, throughputPerSecond, targetRate, concurrency, durationSeconds);
+        System.out.printf("%-12s %10s %8s %10s %10s %10s %10s %10s%n",
+                "operation", "requests", "errors", "req/s", "p50 ms", "p99 ms", "p99.9 ms", "max ms");
+        for (OperationReport operation : operations) {
+            System.out.printf("%-12s %10d %8d %10.1f %10.2f %10.2f %10.2f %10.2f%n",
+                    operation.name(), operation.requests(), operation.errors(), operation.throughputPerSecond(),
+                    operation.p50Millis(), operation.p99Millis(), operation.p999Millis(), operation.maxMillis());
+        }
+    }
+
+    /**
+     * Writes the report to {@code build/reports/load/<name>.json}.
+     */
+    public Path write() throws IOException {
+        Path path = Path.of("build", "reports", "load", name + ".json");
+        Files.createDirectories(path.getParent());
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(path.toFile(), this);
+        return path;
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1e6;
+    }
+}
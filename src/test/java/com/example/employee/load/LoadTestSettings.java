@@ -0,0 +1,26 @@
+package com.example.employee.load;
+
+import java.time.Duration;
+
+/**
+ * Load-test knobs, read from {@code benchmark.load.*} system properties so runs can be tuned from the
+ * command line, e.g. {@code ./gradlew benchmark -Dbenchmark.load.rate=2000 -Dbenchmark.load.concurrency=64}.
+ */
+public record LoadTestSettings(int rate, int concurrency, Duration duration, Duration warmup) {
+
+    public static LoadTestSettings fromSystemProperties() {
+        return new LoadTestSettings(
+                Integer.getInteger("benchmark.load.rate", 500),
+                Integer.getInteger("benchmark.load.concurrency", 32),
+                Duration.ofSeconds(Long.getLong("benchmark.load.duration", 30L)),
+                Duration.ofSeconds(Long.getLong("benchmark.load.warmup", 5L)));
+    }
+
+    public LoadTestSettings withConcurrency(int concurrency) {
+        return new LoadTestSettings(rate, concurrency, duration, warmup);
+    }
+
+    public LoadTestSettings withRate(int rate) {
+        return new LoadTestSettings(rate, concurrency, duration, warmup);
+    }
+}
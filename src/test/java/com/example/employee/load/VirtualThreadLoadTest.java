@@ -0,0 +1,144 @@
+package com.example.employee.load;
+
+import com.example.employee.EmployeeManagementApplication;
+import com.example.employee.model.Employee;
+import com.example.employee.repository.EmployeeRepository;
+import jdk.jfr.consumer.RecordingStream;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Shows the concurrency gained from the {@code virtual-threads} profile when the database is slow.
+ * <p>
+ * Each JDBC connection checkout is held for an extra {@code benchmark.vt.jdbc-latency-ms} to simulate a
+ * slow database. The same read traffic is then driven against the default Tomcat pool, capped at
+ * {@code benchmark.vt.tomcat-threads}, and against virtual threads. With platform threads, throughput
+ * stops at roughly threads / latency; with virtual threads the connection pool becomes the limit.
+ * Virtual threads pinned to their carrier while blocked are counted through JFR.
+ */
+@Tag("benchmark")
+@EnabledForJreRange(min = JRE.JAVA_21)
+class VirtualThreadLoadTest {
+
+    private static final int TOMCAT_THREADS = Integer.getInteger("benchmark.vt.tomcat-threads", 20);
+    private static final int POOL_SIZE = Integer.getInteger("benchmark.vt.pool-size", 100);
+    private static final long JDBC_LATENCY_MS = Long.getLong("benchmark.vt.jdbc-latency-ms", 50L);
+    private static final int CLIENTS = Integer.getInteger("benchmark.vt.clients", 200);
+
+    @Test
+    void virtualThreadsRaiseConcurrencyUnderSlowDatabase() throws Exception {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties()
+                .withRate(0)
+                .withConcurrency(CLIENTS);
+
+        LoadTestReport platform = run("platform-threads", settings, false);
+        LoadTestReport virtual;
+        AtomicLong pinnedEvents = new AtomicLong();
+        try (RecordingStream recording = new RecordingStream()) {
+            recording.enable("jdk.VirtualThreadPinned").withThreshold(Duration.ofMillis(1));
+            recording.onEvent("jdk.VirtualThreadPinned", event -> pinnedEvents.incrementAndGet());
+            recording.startAsync();
+            virtual = run("virtual-threads", settings, true);
+        }
+
+        platform.print();
+        virtual.print();
+        System.out.printf("virtual/platform throughput: %.2fx, pinned virtual thread events: %d%n",
+                virtual.throughputPerSecond() / platform.throughputPerSecond(), pinnedEvents.get());
+        platform.write();
+        virtual.write();
+
+        assertThat(virtual.totalRequests()).isPositive();
+        assertThat(platform.totalRequests()).isPositive();
+    }
+
+    private LoadTestReport run(String name, LoadTestSettings settings, boolean virtualThreads) throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(EmployeeManagementApplication.class)
+                .properties(
+                        "server.port=0",
+                        "server.tomcat.threads.max=" + TOMCAT_THREADS,
+                        "server.tomcat.accept-count=" + (CLIENTS * 2),
+                        "spring.threads.virtual.enabled=" + virtualThreads,
+                        "spring.datasource.hikari.maximum-pool-size=" + POOL_SIZE,
+                        "spring.jpa.show-sql=false",
+                        "employee.response-cache.enabled=false",
+                        "employee.rate-limit.enabled=false",
+                        "logging.level.com.example.employee=WARN",
+                        "logging.level.org.springframework.security=WARN")
+                .initializers(applicationContext -> applicationContext.getBeanFactory()
+                        .addBeanPostProcessor(new SlowDataSourcePostProcessor()))
+                .run()) {
+            List<Long> ids = seed(context.getBean(EmployeeRepository.class));
+            String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port")
+                    + "/api/employees";
+            EmployeeIdPool pool = new EmployeeIdPool(ids.size());
+            ids.forEach(pool::add);
+
+            List<LoadOperation> operations = List.of(
+                    LoadOperation.of("read", 80,
+                            () -> HttpRequest.newBuilder(URI.create(baseUrl + "/" + pool.peek())).GET().build(),
+                            status -> status == 200),
+                    LoadOperation.of("list", 20,
+                            () -> HttpRequest.newBuilder(URI.create(baseUrl + "?limit=20")).GET().build(),
+                            status -> status == 200));
+            return new LoadTestHarness().run(name, operations, settings);
+        }
+    }
+
+    private static List<Long> seed(EmployeeRepository employeeRepository) {
+        List<Employee> employees = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            employees.add(Employee.builder()
+                    .firstName("Virtual")
+                    .lastName("Thread" + i)
+                    .email("vt" + i + "@example.com")
+                    .department("Engineering")
+                    .position("Engineer")
+                    .build());
+        }
+        List<Long> ids = new ArrayList<>();
+        employeeRepository.saveAll(employees).forEach(employee -> ids.add(employee.getId()));
+        return ids;
+    }
+
+    private static final class SlowDataSourcePostProcessor implements BeanPostProcessor {
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) throws BeansException {
+            if (bean instanceof DataSource dataSource && !(bean instanceof DelegatingDataSource)) {
+                return new DelegatingDataSource(dataSource) {
+                    @Override
+                    public Connection getConnection() throws SQLException {
+                        Connection connection = super.getConnection();
+                        try {
+                            Thread.sleep(JDBC_LATENCY_MS);
+                        } catch (InterruptedException ex) {
+                            Thread.currentThread().interrupt();
+                        }
+                        return connection;
+                    }
+                };
+            }
+            return bean;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.employee.logging;
+
+import com.example.employee.config.AccessLogProperties;
+import jakarta.servlet.http.HttpServlet;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.servlet.HandlerMapping;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AccessLogFilterTest {
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void record_ShouldNamePrincipal_AuthenticatedInsideTheSecurityChain() throws Exception {
+        // Given
+        MockHttpServletRequest request = write();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        SecurityContextHolder.getContext().setAuthentication(UsernamePasswordAuthenticationToken.authenticated(
+                "alice", null, AuthorityUtils.createAuthorityList("ROLE_USER")));
+
+        // When: the security chain clears the context before the access log filter writes its record
+        new AccessLogFilter(new AccessLogProperties()).doFilter(request, response,
+                new MockFilterChain(new HttpServlet() { }, new PrincipalCaptureFilter(),
+                        (req, res, chain) -> SecurityContextHolder.clearContext()));
+
+        // Then
+        assertThat(AccessLogFilter.recordOf(request, response, "/api/employees", System.nanoTime())
+                .getFormattedMessage()).endsWith(" principal=alice");
+    }
+
+    @Test
+    void record_ShouldUseRequestPrincipal_WhenNoneWasCaptured() {
+        // Given
+        MockHttpServletRequest request = write();
+        request.setUserPrincipal(() -> "bob");
+
+        // When / Then
+        assertThat(AccessLogFilter.recordOf(request, new MockHttpServletResponse(), "/api/employees",
+                System.nanoTime()).getFormattedMessage()).endsWith(" principal=bob");
+    }
+
+    @Test
+    void record_ShouldSayAnonymous_WhenNobodyIsAuthenticated() throws Exception {
+        // Given
+        MockHttpServletRequest request = write();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        SecurityContextHolder.getContext().setAuthentication(new AnonymousAuthenticationToken(
+                "key", "anonymousUser", AuthorityUtils.createAuthorityList("ROLE_ANONYMOUS")));
+
+        // When
+        new PrincipalCaptureFilter().doFilter(request, response, new MockFilterChain());
+
+        // Then
+        assertThat(AccessLogFilter.recordOf(request, response, "/api/employees", System.nanoTime())
+                .getFormattedMessage())
+                .startsWith("method=POST route=/api/employees uri=/api/employees status=200")
+                .endsWith(" principal=anonymous");
+    }
+
+    private static MockHttpServletRequest write() {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/employees");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/employees");
+        return request;
+    }
+}
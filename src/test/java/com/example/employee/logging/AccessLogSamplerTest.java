@@ -0,0 +1,34 @@
+package com.example.employee.logging;
+
+import com.example.employee.config.AccessLogProperties;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AccessLogSamplerTest {
+
+    @Test
+    void rateFor_ShouldUseEndpointRate_WhenConfigured() {
+        AccessLogProperties properties = new AccessLogProperties();
+        properties.setDefaultSampleRate(0.5);
+        properties.getSampleRates().put("GET /api/employees/{id}", 0.0);
+        properties.getSampleRates().put("post /api/employees", 1.0);
+        AccessLogSampler sampler = new AccessLogSampler(properties);
+
+        assertThat(sampler.rateFor("GET", "/api/employees/{id}")).isEqualTo(0.0);
+        assertThat(sampler.rateFor("POST", "/api/employees")).isEqualTo(1.0);
+        assertThat(sampler.rateFor("GET", "/api/employees")).isEqualTo(0.5);
+        assertThat(sampler.shouldSample("GET", "/api/employees/{id}")).isFalse();
+        assertThat(sampler.shouldSample("POST", "/api/employees")).isTrue();
+    }
+
+    @Test
+    void constructor_ShouldRejectKeyWithoutMethod() {
+        AccessLogProperties properties = new AccessLogProperties();
+        properties.getSampleRates().put("/api/employees", 1.0);
+
+        assertThatThrownBy(() -> new AccessLogSampler(properties))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.employee.outbox;
+
+import com.example.employee.event.EmployeeChangedEvent;
+import com.example.employee.model.EmployeeOutboxEvent;
+import com.example.employee.repository.EmployeeOutboxRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Purges the outbox against a real database; the scheduled dispatcher is slowed down so the test claims
+ * the rows itself.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:outboxpurge",
+        "employee.outbox.dispatch-interval=PT1H",
+        "logging.level.com.example.employee=WARN"
+})
+class EmployeeOutboxPurgeTest {
+
+    @Autowired
+    private EmployeeOutbox outbox;
+
+    @Autowired
+    private EmployeeOutboxRepository outboxRepository;
+
+    @BeforeEach
+    void setUp() {
+        outboxRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void purge_ShouldNeverLetOffsetsGoBack() {
+        // Given
+        outboxRepository.saveAll(List.of(pending(1L), pending(2L), pending(3L)));
+        List<OutboxMessage> published = outbox.claimPending(10);
+        long highest = published.get(published.size() - 1).getOffset();
+
+        // When
+        outbox.purgePublishedBefore(LocalDateTime.now().plusDays(1));
+        outboxRepository.save(pending(4L));
+        List<OutboxMessage> next = outbox.claimPending(10);
+
+        // Then
+        assertThat(outboxRepository.count()).isEqualTo(2);
+        assertThat(next).singleElement().satisfies(message -> assertThat(message.getOffset()).isGreaterThan(highest));
+        assertThat(outbox.latestOffset()).isGreaterThan(highest);
+    }
+
+    private static EmployeeOutboxEvent pending(Long employeeId) {
+        return EmployeeOutboxEvent.builder()
+                .type(EmployeeChangedEvent.Type.UPDATED)
+                .employeeId(employeeId)
+                .payload("{}")
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+}
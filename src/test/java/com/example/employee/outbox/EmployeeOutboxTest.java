@@ -0,0 +1,99 @@
+package com.example.employee.outbox;
+
+import com.example.employee.dto.EmployeeResponse;
+import com.example.employee.event.EmployeeChangedEvent;
+import com.example.employee.model.EmployeeOutboxEvent;
+import com.example.employee.repository.EmployeeOutboxRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class EmployeeOutboxTest {
+
+    @Mock
+    private EmployeeOutboxRepository outboxRepository;
+
+    private EmployeeOutbox outbox;
+
+    @BeforeEach
+    void setUp() {
+        outbox = new EmployeeOutbox(outboxRepository, new ObjectMapper().registerModule(new JavaTimeModule()));
+    }
+
+    @Test
+    void record_ShouldStoreLastKnownState_WhenEmployeeIsDeleted() {
+        // Given
+        EmployeeResponse before = new EmployeeResponse(7L, "John", "Doe", "john.doe@example.com",
+                "Engineering", "Developer", LocalDateTime.now(), LocalDateTime.now(), 2L);
+
+        // When
+        outbox.record(EmployeeChangedEvent.deleted(7L, before));
+
+        // Then
+        ArgumentCaptor<EmployeeOutboxEvent> row = ArgumentCaptor.forClass(EmployeeOutboxEvent.class);
+        verify(outboxRepository).save(row.capture());
+        assertThat(row.getValue().getType()).isEqualTo(EmployeeChangedEvent.Type.DELETED);
+        assertThat(row.getValue().getEmployeeId()).isEqualTo(7L);
+        assertThat(row.getValue().getEventOffset()).isNull();
+        assertThat(row.getValue().getPayload())
+                .contains("\"type\":\"DELETED\"")
+                .contains("\"email\":\"john.doe@example.com\"");
+    }
+
+    @Test
+    void claimPending_ShouldContinueFromLatestOffset() {
+        // Given
+        EmployeeOutboxEvent first = pending(EmployeeChangedEvent.Type.CREATED, "{\"a\":1}");
+        EmployeeOutboxEvent second = pending(EmployeeChangedEvent.Type.UPDATED, "{\"b\":2}");
+        when(outboxRepository.findUnpublished(Limit.of(10))).thenReturn(List.of(first, second));
+        when(outboxRepository.findLatestOffset()).thenReturn(41L);
+
+        // When
+        List<OutboxMessage> messages = outbox.claimPending(10);
+
+        // Then
+        assertThat(messages).containsExactly(
+                new OutboxMessage(42L, "created", "{\"a\":1}"),
+                new OutboxMessage(43L, "updated", "{\"b\":2}"));
+        assertThat(first.getPublishedAt()).isNotNull();
+        assertThat(second.getEventOffset()).isEqualTo(43L);
+    }
+
+    @Test
+    void claimPending_ShouldNotReadOffsets_WhenNothingIsPending() {
+        // Given
+        when(outboxRepository.findUnpublished(any(Limit.class))).thenReturn(List.of());
+
+        // When
+        List<OutboxMessage> messages = outbox.claimPending(10);
+
+        // Then
+        assertThat(messages).isEmpty();
+        verify(outboxRepository, never()).findLatestOffset();
+    }
+
+    private static EmployeeOutboxEvent pending(EmployeeChangedEvent.Type type, String payload) {
+        return EmployeeOutboxEvent.builder()
+                .type(type)
+                .employeeId(1L)
+                .payload(payload)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+}
@@ -0,0 +1,139 @@
+package com.example.employee.ratelimit;
+
+import com.example.employee.config.RateLimitProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimitFilterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void shouldRejectWithRetryAfter_WhenClientExceedsRate() throws Exception {
+        // Given
+        RateLimitFilter filter = filter("GET /api/employees", 1.0, 1, null);
+
+        // When
+        MockHttpServletResponse first = send(filter, "GET", "/api/employees", "10.0.0.1");
+        MockHttpServletResponse second = send(filter, "GET", "/api/employees", "10.0.0.1");
+        MockHttpServletResponse otherClient = send(filter, "GET", "/api/employees", "10.0.0.2");
+
+        // Then
+        assertThat(first.getStatus()).isEqualTo(200);
+        assertThat(second.getStatus()).isEqualTo(429);
+        assertThat(second.getHeader("Retry-After")).isEqualTo("1");
+        assertThat(second.getContentAsString()).contains("\"status\":429");
+        assertThat(otherClient.getStatus()).isEqualTo(200);
+        assertThat(meterRegistry.get("employee.rate_limit.rejected").tag("reason", "rate").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void shouldKeyOnPrincipalOrAddress_NotOnClientHeader() throws Exception {
+        // Given
+        RateLimitFilter filter = filter("GET /api/employees", 1.0, 1, null);
+        MockHttpServletRequest spoofed = request("GET", "/api/employees", "10.0.0.1");
+        spoofed.addHeader("X-Client-Id", "someone-else");
+        MockHttpServletRequest payroll = request("GET", "/api/employees", "10.0.0.1");
+        payroll.setUserPrincipal(() -> "payroll");
+
+        // When
+        MockHttpServletResponse first = send(filter, request("GET", "/api/employees", "10.0.0.1"));
+        MockHttpServletResponse withHeader = send(filter, spoofed);
+        MockHttpServletResponse authenticated = send(filter, payroll);
+
+        // Then
+        assertThat(first.getStatus()).isEqualTo(200);
+        assertThat(withHeader.getStatus()).isEqualTo(429);
+        assertThat(authenticated.getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    void shouldShareOverflowBucket_WhenTrackedClientsAreStillLimited() throws Exception {
+        // Given
+        RateLimitFilter filter = filter("GET /api/employees", 1.0, 1, null, 1);
+
+        // When
+        MockHttpServletResponse tracked = send(filter, "GET", "/api/employees", "10.0.0.1");
+        MockHttpServletResponse firstUntracked = send(filter, "GET", "/api/employees", "10.0.0.2");
+        MockHttpServletResponse secondUntracked = send(filter, "GET", "/api/employees", "10.0.0.3");
+
+        // Then
+        assertThat(tracked.getStatus()).isEqualTo(200);
+        assertThat(firstUntracked.getStatus()).isEqualTo(200);
+        assertThat(secondUntracked.getStatus()).isEqualTo(429);
+    }
+
+    @Test
+    void shouldNotLimit_WhenNoEntryMatches() throws Exception {
+        // Given
+        RateLimitFilter filter = filter("GET /api/employees", 1.0, 1, null);
+
+        // When / Then
+        for (int i = 0; i < 3; i++) {
+            assertThat(send(filter, "GET", "/api/employees/42", "10.0.0.1").getStatus()).isEqualTo(200);
+            assertThat(send(filter, "POST", "/api/employees", "10.0.0.1").getStatus()).isEqualTo(200);
+        }
+    }
+
+    @Test
+    void shouldRejectWith429_WhenBulkheadIsFull() throws Exception {
+        // Given
+        RateLimitFilter filter = filter("GET /api/employees/{id}", null, null, 1);
+        AtomicReference<MockHttpServletResponse> nested = new AtomicReference<>();
+        FilterChain holdsSlot = (request, response) -> nested.set(send(filter, "GET", "/api/employees/2", "10.0.0.2"));
+
+        // When
+        MockHttpServletRequest request = request("GET", "/api/employees/1", "10.0.0.1");
+        filter.doFilter(request, new MockHttpServletResponse(), holdsSlot);
+        MockHttpServletResponse after = send(filter, "GET", "/api/employees/3", "10.0.0.3");
+
+        // Then
+        assertThat(nested.get().getStatus()).isEqualTo(429);
+        assertThat(after.getStatus()).isEqualTo(200);
+    }
+
+    private RateLimitFilter filter(String endpoint, Double requestsPerSecond, Integer burst, Integer maxConcurrent) {
+        return filter(endpoint, requestsPerSecond, burst, maxConcurrent, new RateLimitProperties().getMaxTrackedClients());
+    }
+
+    private RateLimitFilter filter(String endpoint, Double requestsPerSecond, Integer burst, Integer maxConcurrent,
+                                   int maxTrackedClients) {
+        RateLimitProperties.EndpointLimit limit = new RateLimitProperties.EndpointLimit();
+        limit.setRequestsPerSecond(requestsPerSecond);
+        limit.setBurst(burst);
+        limit.setMaxConcurrent(maxConcurrent);
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.getEndpoints().put(endpoint, limit);
+        properties.setMaxTrackedClients(maxTrackedClients);
+        return new RateLimitFilter(properties, new ObjectMapper().registerModule(new JavaTimeModule()), meterRegistry);
+    }
+
+    private static MockHttpServletResponse send(RateLimitFilter filter, String method, String uri, String address)
+            throws Exception {
+        return send(filter, request(method, uri, address));
+    }
+
+    private static MockHttpServletResponse send(RateLimitFilter filter, MockHttpServletRequest request)
+            throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+
+    private static MockHttpServletRequest request(String method, String uri, String address) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, uri);
+        request.setRemoteAddr(address);
+        return request;
+    }
+}
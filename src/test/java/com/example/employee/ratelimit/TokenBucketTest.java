@@ -0,0 +1,33 @@
+package com.example.employee.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenBucketTest {
+
+    private static final long SECOND = 1_000_000_000L;
+
+    @Test
+    void tryAcquire_ShouldAdmitBurst_ThenRefillAtRate() {
+        TokenBucket bucket = new TokenBucket(2, 3, 0);
+
+        assertThat(bucket.tryAcquire(0)).isZero();
+        assertThat(bucket.tryAcquire(0)).isZero();
+        assertThat(bucket.tryAcquire(0)).isZero();
+        assertThat(bucket.tryAcquire(0)).isEqualTo(SECOND / 2);
+
+        assertThat(bucket.tryAcquire(SECOND / 2)).isZero();
+        assertThat(bucket.tryAcquire(SECOND / 2)).isPositive();
+    }
+
+    @Test
+    void isIdle_ShouldBeTrue_OnceBucketHasRefilled() {
+        TokenBucket bucket = new TokenBucket(10, 5, 0);
+        bucket.tryAcquire(0);
+        bucket.tryAcquire(0);
+
+        assertThat(bucket.isIdle(0)).isFalse();
+        assertThat(bucket.isIdle(SECOND / 5)).isTrue();
+    }
+}
@@ -0,0 +1,225 @@
+package com.example.employee.reactive;
+
+import com.example.employee.cache.EmployeeEmailIndex;
+import com.example.employee.config.ReactiveApiProperties;
+import com.example.employee.dto.CreateEmployeeRequest;
+import com.example.employee.dto.EmployeeResponse;
+import com.example.employee.dto.UpdateEmployeeRequest;
+import com.example.employee.event.EmployeeChangedEvent;
+import com.example.employee.exception.EmployeeAlreadyExistsException;
+import com.example.employee.exception.EmployeeNotFoundException;
+import com.example.employee.exception.EmployeeVersionMismatchException;
+import com.example.employee.outbox.EmployeeOutbox;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveEmployeeServiceTest {
+
+    @Mock
+    private ReactiveEmployeeRepository employeeRepository;
+
+    @Spy
+    private ReactiveApiProperties properties = new ReactiveApiProperties();
+
+    @Mock
+    private EmployeeEmailIndex emailIndex;
+
+    @Mock
+    private EmployeeOutbox outbox;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private ReactiveEmployeeService employeeService;
+
+    private EmployeeResponse testResponse;
+    private CreateEmployeeRequest createRequest;
+    private UpdateEmployeeRequest updateRequest;
+
+    @BeforeEach
+    void setUp() {
+        testResponse = EmployeeResponse.builder()
+                .id(1L)
+                .firstName("John")
+                .lastName("Doe")
+                .email("john.doe@example.com")
+                .department("Engineering")
+                .position("Software Engineer")
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .version(0L)
+                .build();
+
+        createRequest = CreateEmployeeRequest.builder()
+                .firstName("John")
+                .lastName("Doe")
+                .email("john.doe@example.com")
+                .department("Engineering")
+                .position("Software Engineer")
+                .build();
+
+        updateRequest = UpdateEmployeeRequest.builder()
+                .firstName("Jane")
+                .lastName("Doe")
+                .email("jane.doe@example.com")
+                .department("Marketing")
+                .position("Marketing Manager")
+                .build();
+
+        lenient().when(employeeRepository.inTransaction(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        lenient().when(employeeRepository.insertOutbox(any())).thenReturn(Mono.empty());
+    }
+
+    @Test
+    void createEmployee_ShouldRecordOutboxRowAndPublishEvent_WhenEmailIsFree() {
+        // Given
+        when(emailIndex.mightContain("john.doe@example.com")).thenReturn(false);
+        when(employeeRepository.insert(eq(createRequest), any(LocalDateTime.class))).thenReturn(Mono.just(testResponse));
+
+        // When / Then
+        StepVerifier.create(employeeService.createEmployee(createRequest))
+                .expectNext(testResponse)
+                .verifyComplete();
+
+        ArgumentCaptor<EmployeeChangedEvent> event = ArgumentCaptor.forClass(EmployeeChangedEvent.class);
+        verify(outbox).toRow(event.capture());
+        assertThat(event.getValue().getType()).isEqualTo(EmployeeChangedEvent.Type.CREATED);
+        verify(employeeRepository).insertOutbox(any());
+        verify(eventPublisher).publishEvent(event.getValue());
+        verify(employeeRepository, never()).existsByEmail(any());
+    }
+
+    @Test
+    void createEmployee_ShouldFail_WhenEmailAlreadyExists() {
+        // Given
+        when(emailIndex.mightContain("john.doe@example.com")).thenReturn(true);
+        when(employeeRepository.existsByEmail("john.doe@example.com")).thenReturn(Mono.just(true));
+
+        // When / Then
+        StepVerifier.create(employeeService.createEmployee(createRequest))
+                .expectErrorSatisfies(error -> assertThat(error)
+                        .isInstanceOf(EmployeeAlreadyExistsException.class)
+                        .hasMessage("Employee with email john.doe@example.com already exists"))
+                .verify();
+
+        verify(employeeRepository, never()).insert(any(), any());
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    void getEmployeeById_ShouldFailWithNotFound_WhenNoRow() {
+        // Given
+        when(employeeRepository.findById(99L)).thenReturn(Mono.empty());
+
+        // When / Then
+        StepVerifier.create(employeeService.getEmployeeById(99L))
+                .expectErrorSatisfies(error -> assertThat(error)
+                        .isInstanceOf(EmployeeNotFoundException.class)
+                        .hasMessage("Employee not found with ID: 99"))
+                .verify();
+    }
+
+    @Test
+    void getEmployeesPage_ShouldReturnCursor_WhenMoreRowsExist() {
+        // Given
+        EmployeeResponse second = EmployeeResponse.builder().id(2L).version(0L).build();
+        EmployeeResponse third = EmployeeResponse.builder().id(3L).version(0L).build();
+        when(employeeRepository.findAfter(0L, 3)).thenReturn(Flux.just(testResponse, second, third));
+
+        // When / Then
+        StepVerifier.create(employeeService.getEmployeesPage(null, 2))
+                .assertNext(page -> {
+                    assertThat(page.getContent()).containsExactly(testResponse, second);
+                    assertThat(page.getNextCursor()).isEqualTo(2L);
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void updateEmployee_ShouldFailPrecondition_WhenVersionDiffers() {
+        // Given
+        when(employeeRepository.findById(1L)).thenReturn(Mono.just(testResponse));
+
+        // When / Then
+        StepVerifier.create(employeeService.updateEmployee(1L, updateRequest, 3L))
+                .expectErrorSatisfies(error -> assertThat(error)
+                        .isInstanceOf(EmployeeVersionMismatchException.class)
+                        .hasMessage("Employee with ID 1 is at version 0, not 3"))
+                .verify();
+
+        verify(employeeRepository, never()).update(anyLong(), anyLong(), any(), any());
+    }
+
+    @Test
+    void updateEmployee_ShouldFail_WhenModifiedConcurrently() {
+        // Given
+        when(employeeRepository.findById(1L)).thenReturn(Mono.just(testResponse));
+        when(emailIndex.mightContain("jane.doe@example.com")).thenReturn(false);
+        when(employeeRepository.update(eq(1L), eq(0L), eq(updateRequest), any(LocalDateTime.class)))
+                .thenReturn(Mono.just(0L));
+
+        // When / Then
+        StepVerifier.create(employeeService.updateEmployee(1L, updateRequest, null))
+                .expectErrorSatisfies(error -> assertThat(error)
+                        .isInstanceOf(EmployeeVersionMismatchException.class)
+                        .hasMessage("Employee with ID 1 was modified concurrently"))
+                .verify();
+
+        verify(employeeRepository, never()).insertOutbox(any());
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    void updateEmployee_ShouldReturnNextVersion_WhenUpdated() {
+        // Given
+        when(employeeRepository.findById(1L)).thenReturn(Mono.just(testResponse));
+        when(emailIndex.mightContain("jane.doe@example.com")).thenReturn(false);
+        when(employeeRepository.update(eq(1L), eq(0L), eq(updateRequest), any(LocalDateTime.class)))
+                .thenReturn(Mono.just(1L));
+
+        // When / Then
+        StepVerifier.create(employeeService.updateEmployee(1L, updateRequest, 0L))
+                .assertNext(response -> {
+                    assertThat(response.getEmail()).isEqualTo("jane.doe@example.com");
+                    assertThat(response.getVersion()).isEqualTo(1L);
+                    assertThat(response.getCreatedAt()).isEqualTo(testResponse.getCreatedAt());
+                })
+                .verifyComplete();
+
+        verify(eventPublisher).publishEvent(any(EmployeeChangedEvent.class));
+    }
+
+    @Test
+    void deleteEmployee_ShouldFailWithNotFound_WhenNothingDeleted() {
+        // Given
+        when(employeeRepository.deleteReturning(99L)).thenReturn(Mono.empty());
+
+        // When / Then
+        StepVerifier.create(employeeService.deleteEmployee(99L))
+                .expectError(EmployeeNotFoundException.class)
+                .verify();
+
+        verify(employeeRepository, never()).insertOutbox(any());
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+}
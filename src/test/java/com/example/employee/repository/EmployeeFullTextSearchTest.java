@@ -0,0 +1,96 @@
+package com.example.employee.repository;
+
+import com.example.employee.dto.EmployeeResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mapping.PropertyReferenceException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Runs full-text searches against the index the {@code persistent} profile migrations create, with more
+ * matches than a single page or any fixed cap.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:fulltextsearch",
+        "logging.level.com.example.employee=WARN"
+})
+@ActiveProfiles("persistent")
+@Transactional
+class EmployeeFullTextSearchTest {
+
+    private static final int ROWS = 12_000;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void seed() {
+        jdbcTemplate.update("DELETE FROM employees");
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            rows.add(new Object[]{i % 100 == 0 ? "Ada" + i : "First" + i, "Last" + i, "employee" + i + "@example.com",
+                    i % 2 == 0 ? "Engineering" : "Sales", "Analyst", now, now});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO employees (id, first_name, last_name, email, department, position, "
+                + "created_at, updated_at, version) VALUES (NEXT VALUE FOR employees_seq, ?, ?, ?, ?, ?, ?, ?, 0)",
+                rows);
+    }
+
+    @Test
+    void fullTextSearch_ShouldCountEveryMatch() {
+        Page<EmployeeResponse> page = employeeRepository.fullTextSearch("Analyst", null, null, null,
+                PageRequest.of(0, 50, Sort.by("id")));
+
+        assertThat(page.getTotalElements()).isEqualTo(ROWS);
+        assertThat(page.getContent()).hasSize(50);
+    }
+
+    @Test
+    void fullTextSearch_ShouldApplyFiltersSortAndPaging() {
+        Page<EmployeeResponse> page = employeeRepository.fullTextSearch("Analyst", "Sales", null, null,
+                PageRequest.of(119, 50, Sort.by(Sort.Direction.DESC, "id")));
+
+        assertThat(page.getTotalElements()).isEqualTo(ROWS / 2);
+        assertThat(page.getContent()).hasSize(50)
+                .allSatisfy(employee -> assertThat(employee.getDepartment()).isEqualTo("Sales"));
+        assertThat(page.getContent()).extracting(EmployeeResponse::getId).isSortedAccordingTo((a, b) -> b.compareTo(a));
+        assertThat(page.hasNext()).isFalse();
+    }
+
+    @Test
+    void fullTextSearch_ShouldMatchNamePrefixLiterally() {
+        Page<EmployeeResponse> prefixed = employeeRepository.fullTextSearch("Analyst", "Engineering", null, "Ada",
+                PageRequest.of(0, 1000));
+        Page<EmployeeResponse> wildcard = employeeRepository.fullTextSearch("Analyst", null, null, "_da",
+                PageRequest.of(0, 1000));
+
+        assertThat(prefixed.getTotalElements()).isEqualTo(ROWS / 100);
+        assertThat(wildcard.getTotalElements()).isZero();
+    }
+
+    @Test
+    void fullTextSearch_ShouldRejectUnknownSortProperty() {
+        assertThatThrownBy(() -> employeeRepository.fullTextSearch("Analyst", null, null, null,
+                PageRequest.of(0, 20, Sort.by("salary"))))
+                .isInstanceOf(PropertyReferenceException.class);
+    }
+}
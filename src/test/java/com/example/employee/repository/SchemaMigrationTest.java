@@ -0,0 +1,103 @@
+package com.example.employee.repository;
+
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.MigrationInfo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Boots the {@code persistent} profile against a fresh database: the Flyway migrations must produce a schema
+ * Hibernate validates, and the plans of the employee query patterns must use the indexes they define.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:schemamigration",
+        "logging.level.com.example.employee=WARN"
+})
+@ActiveProfiles("persistent")
+class SchemaMigrationTest {
+
+    private static final int ROWS = 2_000;
+    private static final String[] DEPARTMENTS = {"Engineering", "Sales", "Marketing", "Finance", "HR",
+            "Legal", "Support", "Operations", "Research", "Design"};
+
+    @Autowired
+    private Flyway flyway;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void seed() {
+        jdbcTemplate.update("DELETE FROM employees");
+        LocalDateTime start = LocalDateTime.now().minusDays(ROWS);
+        List<Object[]> rows = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            Timestamp createdAt = Timestamp.valueOf(start.plusDays(i));
+            rows.add(new Object[]{"First" + i, "Last" + i, "employee" + i + "@example.com",
+                    DEPARTMENTS[i % DEPARTMENTS.length], "Position" + (i % 40), createdAt, createdAt});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO employees (id, first_name, last_name, email, department, position, "
+                + "created_at, updated_at, version) VALUES (NEXT VALUE FOR employees_seq, ?, ?, ?, ?, ?, ?, ?, 0)",
+                rows);
+        // Refresh the selectivity statistics the optimizer costs plans with
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    @Test
+    void migrate_ShouldApplyEveryMigration() {
+        MigrationInfo current = flyway.info().current();
+
+        assertThat(flyway.info().pending()).isEmpty();
+        assertThat(current.getVersion().getVersion()).isEqualTo("3");
+        assertThat(Arrays.stream(flyway.info().applied()).map(MigrationInfo::getScript))
+                .contains("R__employees_fulltext.sql");
+    }
+
+    @Test
+    void departmentFilter_ShouldUseDepartmentPositionIndex() {
+        assertThat(plan("SELECT id FROM employees WHERE department = 'Sales'"))
+                .contains("IDX_EMPLOYEES_DEPARTMENT_POSITION");
+        assertThat(plan("SELECT id FROM employees WHERE department = 'Sales' AND position = 'Position3'"))
+                .contains("IDX_EMPLOYEES_DEPARTMENT_POSITION");
+    }
+
+    @Test
+    void positionFilter_ShouldUsePositionIndex() {
+        assertThat(plan("SELECT id FROM employees WHERE position = 'Position3'"))
+                .contains("IDX_EMPLOYEES_POSITION");
+    }
+
+    @Test
+    void lastNamePrefix_ShouldUseLastNameIndex() {
+        assertThat(plan("SELECT id FROM employees WHERE last_name LIKE 'Last12%'"))
+                .contains("IDX_EMPLOYEES_LAST_NAME");
+    }
+
+    @Test
+    void createdAtRange_ShouldUseCreatedAtIndex() {
+        assertThat(plan("SELECT id FROM employees WHERE created_at >= DATEADD('DAY', -7, CURRENT_TIMESTAMP)"))
+                .contains("IDX_EMPLOYEES_CREATED_AT");
+    }
+
+    @Test
+    void pendingOutboxRows_ShouldUsePendingIndex() {
+        assertThat(plan("SELECT id FROM employee_outbox WHERE event_offset IS NULL ORDER BY id"))
+                .contains("IDX_EMPLOYEE_OUTBOX_PENDING");
+    }
+
+    private String plan(String query) {
+        return jdbcTemplate.queryForObject("EXPLAIN " + query, String.class);
+    }
+}
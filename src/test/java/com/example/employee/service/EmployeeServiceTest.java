@@ -1,27 +1,56 @@
 package com.example.employee.service;
 
+import com.example.employee.cache.EmployeeEmailIndex;
+import com.example.employee.config.BatchProperties;
+import com.example.employee.dto.BatchCreateResponse;
+import com.example.employee.dto.BatchCreateResult;
+import com.example.employee.dto.BulkDeleteRequest;
+import com.example.employee.dto.BulkDeleteResponse;
+import com.example.employee.dto.BulkDeleteResult;
 import com.example.employee.dto.CreateEmployeeRequest;
+import com.example.employee.dto.EmployeePage;
 import com.example.employee.dto.EmployeeResponse;
+import com.example.employee.dto.EmployeeSearchCriteria;
+import com.example.employee.dto.PageResponse;
+import com.example.employee.dto.PatchEmployeeRequest;
 import com.example.employee.dto.UpdateEmployeeRequest;
+import com.example.employee.event.EmployeeChangedEvent;
 import com.example.employee.exception.EmployeeAlreadyExistsException;
 import com.example.employee.exception.EmployeeNotFoundException;
+import com.example.employee.exception.EmployeeVersionMismatchException;
 import com.example.employee.model.Employee;
 import com.example.employee.repository.EmployeeRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
@@ -31,10 +60,26 @@ class EmployeeServiceTest {
     @Mock
     private EmployeeRepository employeeRepository;
 
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private Validator validator;
+
+    @Spy
+    private BatchProperties batchProperties = new BatchProperties();
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private EmployeeEmailIndex emailIndex;
+
     @InjectMocks
     private EmployeeService employeeService;
 
     private Employee testEmployee;
+    private EmployeeResponse testResponse;
     private CreateEmployeeRequest createRequest;
     private UpdateEmployeeRequest updateRequest;
 
@@ -50,6 +95,7 @@ class EmployeeServiceTest {
                 .createdAt(LocalDateTime.now())
                 .updatedAt(LocalDateTime.now())
                 .build();
+        testResponse = EmployeeService.mapToResponse(testEmployee);
 
         createRequest = CreateEmployeeRequest.builder()
                 .firstName("John")
@@ -71,7 +117,7 @@ class EmployeeServiceTest {
     @Test
     void createEmployee_ShouldReturnEmployeeResponse_WhenValidRequest() {
         // Given
-        when(employeeRepository.existsByEmail(anyString())).thenReturn(false);
+        when(emailIndex.exists(anyString())).thenReturn(false);
         when(employeeRepository.save(any(Employee.class))).thenReturn(testEmployee);
 
         // When
@@ -82,28 +128,55 @@ class EmployeeServiceTest {
         assertThat(response.getFirstName()).isEqualTo("John");
         assertThat(response.getLastName()).isEqualTo("Doe");
         assertThat(response.getEmail()).isEqualTo("john.doe@example.com");
-        verify(employeeRepository).existsByEmail("john.doe@example.com");
+        verify(emailIndex).exists("john.doe@example.com");
         verify(employeeRepository).save(any(Employee.class));
     }
 
     @Test
     void createEmployee_ShouldThrowException_WhenEmailAlreadyExists() {
         // Given
-        when(employeeRepository.existsByEmail(anyString())).thenReturn(true);
+        when(emailIndex.exists(anyString())).thenReturn(true);
 
         // When & Then
         assertThatThrownBy(() -> employeeService.createEmployee(createRequest))
                 .isInstanceOf(EmployeeAlreadyExistsException.class)
                 .hasMessageContaining("already exists");
         
-        verify(employeeRepository).existsByEmail("john.doe@example.com");
+        verify(emailIndex).exists("john.doe@example.com");
         verify(employeeRepository, never()).save(any(Employee.class));
     }
 
+    @Test
+    void createEmployees_ShouldReportConflicts_WhenEmailsAlreadyExistOrRepeat() {
+        // Given
+        CreateEmployeeRequest existing = CreateEmployeeRequest.builder()
+                .firstName("Ann").lastName("Lee").email("ann.lee@example.com")
+                .department("HR").position("Recruiter").build();
+        CreateEmployeeRequest repeated = CreateEmployeeRequest.builder()
+                .firstName("Johnny").lastName("Doe").email("john.doe@example.com")
+                .department("Sales").position("Account Manager").build();
+        when(emailIndex.mightContain(anyString())).thenReturn(true);
+        when(employeeRepository.findExistingEmails(anyCollection())).thenReturn(List.of("ann.lee@example.com"));
+
+        // When
+        BatchCreateResponse response = employeeService.createEmployees(List.of(createRequest, existing, repeated));
+
+        // Then
+        assertThat(response.getCreated()).isEqualTo(1);
+        assertThat(response.getFailed()).isEqualTo(2);
+        assertThat(response.getResults()).extracting(BatchCreateResult::getStatus).containsExactly(
+                BatchCreateResult.Status.CREATED,
+                BatchCreateResult.Status.CONFLICT,
+                BatchCreateResult.Status.CONFLICT);
+        verify(employeeRepository, times(1)).findExistingEmails(anyCollection());
+        verify(employeeRepository).saveAll(anyList());
+        verify(entityManager).flush();
+    }
+
     @Test
     void getEmployeeById_ShouldReturnEmployee_WhenEmployeeExists() {
         // Given
-        when(employeeRepository.findById(1L)).thenReturn(Optional.of(testEmployee));
+        when(employeeRepository.findResponseById(1L)).thenReturn(Optional.of(testResponse));
 
         // When
         EmployeeResponse response = employeeService.getEmployeeById(1L);
@@ -112,27 +185,27 @@ class EmployeeServiceTest {
         assertThat(response).isNotNull();
         assertThat(response.getId()).isEqualTo(1L);
         assertThat(response.getFirstName()).isEqualTo("John");
-        verify(employeeRepository).findById(1L);
+        verify(employeeRepository).findResponseById(1L);
+        verify(employeeRepository, never()).findById(any());
     }
 
     @Test
     void getEmployeeById_ShouldThrowException_WhenEmployeeNotExists() {
         // Given
-        when(employeeRepository.findById(1L)).thenReturn(Optional.empty());
+        when(employeeRepository.findResponseById(1L)).thenReturn(Optional.empty());
 
         // When & Then
         assertThatThrownBy(() -> employeeService.getEmployeeById(1L))
                 .isInstanceOf(EmployeeNotFoundException.class)
                 .hasMessageContaining("not found");
         
-        verify(employeeRepository).findById(1L);
+        verify(employeeRepository).findResponseById(1L);
     }
 
     @Test
     void getAllEmployees_ShouldReturnListOfEmployees() {
         // Given
-        List<Employee> employees = Arrays.asList(testEmployee);
-        when(employeeRepository.findAll()).thenReturn(employees);
+        when(employeeRepository.findAllResponses()).thenReturn(List.of(testResponse));
 
         // When
         List<EmployeeResponse> responses = employeeService.getAllEmployees();
@@ -140,15 +213,60 @@ class EmployeeServiceTest {
         // Then
         assertThat(responses).hasSize(1);
         assertThat(responses.get(0).getFirstName()).isEqualTo("John");
-        verify(employeeRepository).findAll();
+        verify(employeeRepository).findAllResponses();
+    }
+
+    @Test
+    void getEmployeesPage_ShouldReturnNextCursor_WhenMoreEmployeesExist() {
+        // Given
+        EmployeeResponse second = EmployeeResponse.builder().id(2L).firstName("Jane").build();
+        when(employeeRepository.findResponsesAfter(0L, Limit.of(2)))
+                .thenReturn(Arrays.asList(testResponse, second));
+
+        // When
+        EmployeePage page = employeeService.getEmployeesPage(null, 1);
+
+        // Then
+        assertThat(page.getContent()).hasSize(1);
+        assertThat(page.getContent().get(0).getId()).isEqualTo(1L);
+        assertThat(page.getNextCursor()).isEqualTo(1L);
+    }
+
+    @Test
+    void getEmployeesPage_ShouldReturnNoCursor_WhenLastPage() {
+        // Given
+        when(employeeRepository.findResponsesAfter(0L, Limit.of(11)))
+                .thenReturn(List.of(testResponse));
+
+        // When
+        EmployeePage page = employeeService.getEmployeesPage(0L, 10);
+
+        // Then
+        assertThat(page.getContent()).hasSize(1);
+        assertThat(page.getNextCursor()).isNull();
+    }
+
+    @Test
+    void streamAllEmployees_ShouldEmitEachEmployee() {
+        // Given
+        when(employeeRepository.streamAllResponses()).thenReturn(Stream.of(testResponse));
+        List<EmployeeResponse> emitted = new ArrayList<>();
+
+        // When
+        employeeService.streamAllEmployees(emitted::add);
+
+        // Then
+        assertThat(emitted).hasSize(1);
+        assertThat(emitted.get(0).getEmail()).isEqualTo("john.doe@example.com");
+        verifyNoInteractions(entityManager);
     }
 
     @Test
     void updateEmployee_ShouldReturnUpdatedEmployee_WhenValidRequest() {
         // Given
         when(employeeRepository.findById(1L)).thenReturn(Optional.of(testEmployee));
-        when(employeeRepository.existsByEmail(anyString())).thenReturn(false);
-        when(employeeRepository.save(any(Employee.class))).thenReturn(testEmployee);
+        when(emailIndex.exists(anyString())).thenReturn(false);
+        when(employeeRepository.saveAndFlush(any(Employee.class))).thenReturn(testEmployee);
 
         // When
         EmployeeResponse response = employeeService.updateEmployee(1L, updateRequest);
@@ -156,33 +274,172 @@ class EmployeeServiceTest {
         // Then
         assertThat(response).isNotNull();
         verify(employeeRepository).findById(1L);
-        verify(employeeRepository).save(any(Employee.class));
+        verify(employeeRepository).saveAndFlush(any(Employee.class));
+        verify(eventPublisher).publishEvent(any(EmployeeChangedEvent.class));
+    }
+
+    @Test
+    void updateEmployee_ShouldThrowException_WhenVersionDoesNotMatch() {
+        // Given
+        testEmployee.setVersion(3L);
+        when(employeeRepository.findById(1L)).thenReturn(Optional.of(testEmployee));
+
+        // When & Then
+        assertThatThrownBy(() -> employeeService.updateEmployee(1L, updateRequest, 2L))
+                .isInstanceOf(EmployeeVersionMismatchException.class);
+
+        verify(employeeRepository, never()).saveAndFlush(any(Employee.class));
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    void patchEmployee_ShouldUpdateOnlyChangedColumns_WithoutEmailCheck() {
+        // Given
+        testResponse.setVersion(0L);
+        when(employeeRepository.findResponseById(1L)).thenReturn(Optional.of(testResponse));
+        when(employeeRepository.updateChangedColumns(eq(1L), eq(0L), anyMap(), any(LocalDateTime.class))).thenReturn(1);
+        PatchEmployeeRequest patch = PatchEmployeeRequest.builder()
+                .department("Marketing")
+                .firstName("John")
+                .build();
+
+        // When
+        EmployeeResponse response = employeeService.patchEmployee(1L, patch, null);
+
+        // Then
+        assertThat(response.getDepartment()).isEqualTo("Marketing");
+        assertThat(response.getEmail()).isEqualTo("john.doe@example.com");
+        assertThat(response.getVersion()).isEqualTo(1L);
+        verify(employeeRepository).updateChangedColumns(eq(1L), eq(0L), eq(Map.of("department", "Marketing")),
+                any(LocalDateTime.class));
+        verify(employeeRepository, never()).findById(anyLong());
+        verifyNoInteractions(emailIndex);
+        verify(eventPublisher).publishEvent(any(EmployeeChangedEvent.class));
+    }
+
+    @Test
+    void patchEmployee_ShouldSkipUpdate_WhenNothingChanges() {
+        // Given
+        when(employeeRepository.findResponseById(1L)).thenReturn(Optional.of(testResponse));
+        PatchEmployeeRequest patch = PatchEmployeeRequest.builder().email("john.doe@example.com").build();
+
+        // When
+        EmployeeResponse response = employeeService.patchEmployee(1L, patch, null);
+
+        // Then
+        assertThat(response).isSameAs(testResponse);
+        verify(employeeRepository, never()).updateChangedColumns(anyLong(), any(), anyMap(), any());
+        verifyNoInteractions(emailIndex, eventPublisher);
+    }
+
+    @Test
+    void patchEmployee_ShouldThrowException_WhenConcurrentlyModified() {
+        // Given
+        testResponse.setVersion(4L);
+        when(employeeRepository.findResponseById(1L)).thenReturn(Optional.of(testResponse));
+        when(emailIndex.exists("jane.doe@example.com")).thenReturn(false);
+        when(employeeRepository.updateChangedColumns(eq(1L), eq(4L), anyMap(), any(LocalDateTime.class))).thenReturn(0);
+        PatchEmployeeRequest patch = PatchEmployeeRequest.builder().email("jane.doe@example.com").build();
+
+        // When & Then
+        assertThatThrownBy(() -> employeeService.patchEmployee(1L, patch, null))
+                .isInstanceOf(EmployeeVersionMismatchException.class);
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
     }
 
     @Test
     void deleteEmployee_ShouldDeleteEmployee_WhenEmployeeExists() {
         // Given
-        when(employeeRepository.existsById(1L)).thenReturn(true);
+        when(employeeRepository.deleteReturningById(1L)).thenReturn(Optional.of(testResponse));
 
         // When
         employeeService.deleteEmployee(1L);
 
         // Then
-        verify(employeeRepository).existsById(1L);
-        verify(employeeRepository).deleteById(1L);
+        verify(employeeRepository).deleteReturningById(1L);
+        verify(employeeRepository, never()).existsById(any());
+        verify(eventPublisher).publishEvent(EmployeeChangedEvent.deleted(1L, testResponse));
     }
 
     @Test
     void deleteEmployee_ShouldThrowException_WhenEmployeeNotExists() {
         // Given
-        when(employeeRepository.existsById(1L)).thenReturn(false);
+        when(employeeRepository.deleteReturningById(1L)).thenReturn(Optional.empty());
 
         // When & Then
         assertThatThrownBy(() -> employeeService.deleteEmployee(1L))
                 .isInstanceOf(EmployeeNotFoundException.class)
                 .hasMessageContaining("not found");
         
-        verify(employeeRepository).existsById(1L);
-        verify(employeeRepository, never()).deleteById(1L);
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    void deleteEmployees_ShouldReportEachId_WhenDeletingByIds() {
+        // Given
+        when(employeeRepository.deleteReturningByIds(List.of(1L, 2L), null, null)).thenReturn(List.of(testResponse));
+        BulkDeleteRequest request = BulkDeleteRequest.builder().ids(List.of(1L, 2L, 1L)).build();
+
+        // When
+        BulkDeleteResponse response = employeeService.deleteEmployees(request);
+
+        // Then
+        assertThat(response.getDeleted()).isEqualTo(1);
+        assertThat(response.getNotFound()).isEqualTo(1);
+        assertThat(response.getResults()).extracting(BulkDeleteResult::getStatus)
+                .containsExactly(BulkDeleteResult.Status.DELETED, BulkDeleteResult.Status.NOT_FOUND);
+        verify(eventPublisher).publishEvent(EmployeeChangedEvent.deleted(1L, testResponse));
+    }
+
+    @Test
+    void deleteEmployees_ShouldDeleteByFilter_WhenNoIdsGiven() {
+        // Given
+        when(employeeRepository.deleteReturningByFilter("Engineering", null)).thenReturn(List.of(testResponse));
+        BulkDeleteRequest request = BulkDeleteRequest.builder().department("Engineering").build();
+
+        // When
+        BulkDeleteResponse response = employeeService.deleteEmployees(request);
+
+        // Then
+        assertThat(response.getDeleted()).isEqualTo(1);
+        assertThat(response.getNotFound()).isZero();
+        assertThat(response.getResults()).extracting(BulkDeleteResult::getId).containsExactly(1L);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void searchEmployees_ShouldReturnMappedPage_WhenFiltering() {
+        // Given
+        Pageable pageable = PageRequest.of(0, 20);
+        EmployeeSearchCriteria criteria = EmployeeSearchCriteria.builder().department("Engineering").build();
+        when(employeeRepository.findResponses(any(Specification.class), eq(pageable)))
+                .thenReturn(new PageImpl<>(List.of(testResponse), pageable, 1));
+
+        // When
+        PageResponse<EmployeeResponse> response = employeeService.searchEmployees(criteria, pageable);
+
+        // Then
+        assertThat(response.getContent()).extracting(EmployeeResponse::getEmail).containsExactly("john.doe@example.com");
+        assertThat(response.getTotalElements()).isEqualTo(1);
+        verify(employeeRepository, never()).fullTextSearch(anyString(), any(), any(), any(), any(Pageable.class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void searchEmployees_ShouldMatchFullTextInTheQuery_WhenQIsGiven() {
+        // Given
+        Pageable pageable = PageRequest.of(2, 20);
+        EmployeeSearchCriteria criteria = EmployeeSearchCriteria.builder().q("engineer").department("Engineering")
+                .position(" ").build();
+        when(employeeRepository.fullTextSearch("engineer", "Engineering", null, null, pageable))
+                .thenReturn(new PageImpl<>(List.of(testResponse), pageable, 12_041));
+
+        // When
+        PageResponse<EmployeeResponse> response = employeeService.searchEmployees(criteria, pageable);
+
+        // Then
+        assertThat(response.getContent()).extracting(EmployeeResponse::getEmail).containsExactly("john.doe@example.com");
+        assertThat(response.getTotalElements()).isEqualTo(12_041);
+        verify(employeeRepository, never()).findResponses(any(Specification.class), any(Pageable.class));
     }
 }